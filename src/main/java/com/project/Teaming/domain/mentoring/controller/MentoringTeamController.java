@@ -3,6 +3,7 @@ package com.project.Teaming.domain.mentoring.controller;
 import com.project.Teaming.domain.mentoring.dto.request.TeamRequest;
 import com.project.Teaming.domain.mentoring.dto.response.TeamAuthorityResponse;
 import com.project.Teaming.domain.mentoring.service.MentoringTeamService;
+import com.project.Teaming.global.cache.SingleFlight;
 import com.project.Teaming.global.result.ResultCode;
 import com.project.Teaming.global.result.ResultDetailResponse;
 import jakarta.validation.Valid;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class MentoringTeamController implements SwaggerMentoringTeamController {
 
     private final MentoringTeamService mentoringTeamService;
+    private final SingleFlight singleFlight;
 
     @Override
     @PostMapping("/teams")
@@ -40,8 +42,8 @@ public class MentoringTeamController implements SwaggerMentoringTeamController {
     @GetMapping("/teams/{teamId}")
     public ResultDetailResponse<TeamAuthorityResponse> findMentoringTeam(@PathVariable Long teamId) {
         return new ResultDetailResponse<>(ResultCode.GET_MENTORING_TEAM,
-                mentoringTeamService.getMentoringTeam(
-                        mentoringTeamService.findMentoringTeam(teamId)));
+                singleFlight.executeForViewer("mentoring:team:" + teamId,
+                        () -> mentoringTeamService.getMentoringTeam(mentoringTeamService.findMentoringTeam(teamId))));
     }
     @Override
     @DeleteMapping("/teams/{teamId}")
@@ -9,8 +9,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MentoringTeamRepository extends JpaRepository<MentoringTeam,Long>,TeamRepositoryCustom {
 
+    // 알림 메시지 렌더링용 이름 조회 (id, name)
+    @Query("select t.id, t.name from MentoringTeam t where t.id in :ids")
+    List<Object[]> findNamesByIds(@Param("ids") Collection<Long> ids);
+
 }
@@ -57,6 +57,7 @@ public class MentoringBoardService {
     private final MentoringParticipationPolicy mentoringParticipationPolicy;
     private final CategoryRepository categoryRepository;
     private final CategoryDataProvider categoryDataProvider;
+    private final MentoringCacheService mentoringCacheService;
 
     /**
      * 게시물을 저장하는 로직
@@ -79,6 +80,7 @@ public class MentoringBoardService {
         mentoringBoard.addMentoringBoard(mentoringTeam);  // 멘토링 팀과 연관관계 매핑
 
         MentoringBoard savedPost = mentoringBoardRepository.save(mentoringBoard);
+        mentoringCacheService.evictAllAfterCommit();
         return savedPost.getId();
     }
 
@@ -197,6 +199,7 @@ public class MentoringBoardService {
 
             mentoringBoard.updateBoard(dto);
             mentoringBoardRepository.flush();
+            mentoringCacheService.evictAllAfterCommit();
 
         } catch (OptimisticLockException e) {
             throw new BusinessException(ErrorCode.CONFLICT);
@@ -217,6 +220,7 @@ public class MentoringBoardService {
                 () -> new BusinessException(ErrorCode.NO_AUTHORITY));
 
         mentoringBoardRepository.delete(mentoringBoard);
+        mentoringCacheService.evictAllAfterCommit();
 
     }
 
@@ -239,6 +243,7 @@ public class MentoringBoardService {
         mentoringBoardPolicy.validatePostWithTeam(post,mentoringTeam);
 
         post.updateStatus();
+        mentoringCacheService.evictAllAfterCommit();
         return new MentoringPostStatusResponse(PostStatus.COMPLETE);
 
     }
@@ -248,6 +253,7 @@ public class MentoringBoardService {
     public void updateCheckCompleteStatus() {
         mentoringBoardRepository.bulkUpDateStatus(PostStatus.COMPLETE, PostStatus.RECRUITING, LocalDate.now());
         entityManager.clear();
+        mentoringCacheService.evictAllAfterCommit();
     }
 
     private void setAuthorityForUser(BoardSpecResponse dto, MentoringTeam mentoringTeam, User user) {
@@ -0,0 +1,43 @@
+package com.project.Teaming.domain.mentoring.service;
+
+import com.project.Teaming.domain.mentoring.dto.response.BoardResponse;
+import com.project.Teaming.global.cache.CacheGeneration;
+import com.project.Teaming.global.cache.SingleFlightCache;
+import com.project.Teaming.global.result.pagenateResponse.PaginatedCursorResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 멘토링 게시글 목록 캐시 (Redis db 1번).
+ * 게시글, 게시글이 속한 팀이 바뀌면 세대를 올려 모든 페이지를 한 번에 무효화한다.
+ * 조회 결과는 로그인 여부와 관계없이 같으므로 모든 유저가 같은 캐시를 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MentoringCacheService {
+
+    private static final String CACHE_NAME = "mentoring_posts";
+
+    private final SingleFlightCache singleFlightCache;
+    private final CacheGeneration cacheGeneration;
+
+    /**
+     * 캐시된 게시글 목록을 반환하고, 없으면 loader 로 조회해 저장한다.
+     */
+    public PaginatedCursorResponse<BoardResponse> getPosts(Long cursor, int size,
+                                                           Supplier<PaginatedCursorResponse<BoardResponse>> loader) {
+        String cacheKey = CACHE_NAME + ":" + cacheGeneration.current(CACHE_NAME) + ":" + cursor + ":" + size;
+        int jitter = ThreadLocalRandom.current().nextInt(10);  // 0~9분 랜덤, 페이지마다 만료 시각을 분산
+        return singleFlightCache.get(CACHE_NAME, cacheKey, Duration.ofMinutes(1 + jitter), loader);
+    }
+
+    /**
+     * 게시글 목록 캐시 전체 무효화. 트랜잭션 안에서 호출하면 커밋 후에 반영된다.
+     */
+    public void evictAllAfterCommit() {
+        cacheGeneration.bumpAfterCommit(CACHE_NAME);
+    }
+}
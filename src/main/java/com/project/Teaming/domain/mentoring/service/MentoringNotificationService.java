@@ -11,18 +11,17 @@ import com.project.Teaming.domain.mentoring.repository.MentoringParticipationRep
 import com.project.Teaming.domain.user.entity.User;
 import com.project.Teaming.global.error.ErrorCode;
 import com.project.Teaming.global.error.exception.BusinessException;
-import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.sse.entity.BroadcastAudience;
 import com.project.Teaming.global.sse.entity.Notification;
 import com.project.Teaming.global.sse.entity.NotificationType;
-import com.project.Teaming.global.sse.repository.NotificationRepository;
+import com.project.Teaming.global.sse.service.BroadcastNotificationService;
+import com.project.Teaming.global.sse.service.NotificationCoalescer;
 import com.project.Teaming.global.sse.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,56 +29,43 @@ import java.util.stream.Collectors;
 public class MentoringNotificationService {
 
     private final NotificationService notificationService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationCoalescer notificationCoalescer;
+    private final BroadcastNotificationService broadcastNotificationService;
     private final UserDataProvider userDataProvider;
     private final MentoringTeamDataProvider mentoringTeamDataProvider;
     private final MentoringParticipationDataProvider mentoringParticipationDataProvider;
     private final MentoringParticipationRepository mentoringParticipationRepository;
-    private final NotificationRepository notificationRepository;
 
     public void participate(Long userId, Long mentoringTeamId) {
 
-        User user = userDataProvider.findUser(userId);
         MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
 
         MentoringParticipation leader = mentoringParticipationDataProvider.findParticipationWith(
                 mentoringTeam, null, MentoringAuthority.LEADER, MentoringParticipationStatus.ACCEPTED,
                 () -> new BusinessException(ErrorCode.MENTORING_PARTICIPATION_NOT_EXIST));
 
-        String message = user.getName() + " 님이 " + mentoringTeam.getName() + " 팀에 참가 신청을 했습니다.";
-        sendSingleNotification(leader.getUser().getId(), mentoringTeamId, message, NotificationType.MENTORING_TEAM_JOIN_REQUEST);
+        // 신청이 몰리면 리더에게는 "OO 님 외 N명" 알림 하나만 보낸다
+        notificationCoalescer.submit(leader.getUser().getId(), mentoringTeamId, NotificationType.MENTORING_TEAM_JOIN_REQUEST, userId);
     }
 
     public void accept(Long userId, Long mentoringTeamId) {
-
-        MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
-
-        String message = mentoringTeam.getName() + " 팀의 신청이 수락되었습니다.";
-        sendSingleNotification(userId, mentoringTeamId, message, NotificationType.MENTORING_TEAM_ACCEPT);
+        // 팀 이름은 조회/전송 시점에 채워지므로 팀을 조회하지 않는다
+        sendSingleNotification(userId, mentoringTeamId, NotificationType.MENTORING_TEAM_ACCEPT, null, null);
     }
 
     public void reject(Long userId, Long mentoringTeamId) {
-
-        MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
-
-        String message = mentoringTeam.getName() + " 팀의 신청이 거절되었습니다.";
-        sendSingleNotification(userId, mentoringTeamId, message, NotificationType.MENTORING_TEAM_REJECT);
+        sendSingleNotification(userId, mentoringTeamId, NotificationType.MENTORING_TEAM_REJECT, null, null);
     }
 
 
     public void warning(Long userId) {
-        String message = "경고 횟수가 증가하였습니다.";
         log.info("MentoringNotification Service Warning 메서드");
-        sendSingleNotification(userId, null, message, NotificationType.WARNING_COUNT_INCREMENT);
+        sendSingleNotification(userId, null, NotificationType.WARNING_COUNT_INCREMENT, null, null);
     }
 
 
     public void notifyExportedUser(Long userId, Long mentoringTeamId) {
-        MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
-
-        String message =mentoringTeam.getName() + " 팀에서 강퇴되었습니다.";
-
-        sendSingleNotification(userId, mentoringTeamId, message, NotificationType.MENTORING_EXPORT2);
+        sendSingleNotification(userId, mentoringTeamId, NotificationType.MENTORING_EXPORT2, null, null);
     }
 
 
@@ -89,8 +75,8 @@ public class MentoringNotificationService {
         MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
 
         List<User> users = mentoringParticipationRepository.findMemberUser(mentoringTeam.getId(), MentoringAuthority.CREW);
-        String message = user.getName() + " 님이 " + mentoringTeam.getName() + " 팀에서 강퇴 되었습니다. 신고는 7일 이내에 가능합니다.";
-        sendBulkNotification(users, mentoringTeamId, message, NotificationType.MENTORING_EXPORT);
+        String message = NotificationType.MENTORING_EXPORT.render(user.getName(), mentoringTeam.getName(), null);
+        sendBulkNotification(users, mentoringTeamId, MentoringAuthority.CREW, message, NotificationType.MENTORING_EXPORT);
     }
 
 
@@ -100,27 +86,21 @@ public class MentoringNotificationService {
         MentoringTeam mentoringTeam = mentoringTeamDataProvider.findMentoringTeam(mentoringTeamId);
 
         List<User> users = mentoringParticipationRepository.findMemberUser(mentoringTeam.getId(), null);
-        String message = user.getName() + " 님이 " + mentoringTeam.getName() + " 팀에서 탈퇴 하였습니다. 신고는 7일 이내에 가능합니다.";
+        String message = NotificationType.MENTORING_DELETE.render(user.getName(), mentoringTeam.getName(), null);
 
-        sendBulkNotification(users, mentoringTeamId, message, NotificationType.MENTORING_DELETE);
+        sendBulkNotification(users, mentoringTeamId, null, message, NotificationType.MENTORING_DELETE);
     }
 
-    public void sendSingleNotification(Long userId, Long teamId, String message, NotificationType type) {
-        Notification notification = (teamId == null)
-                ? notificationService.saveNotification(userId, message, type.getTitle(),type.getCategory())
-                : notificationService.saveNotificationWithTeamId(userId, teamId, message, type.getTitle(),type.getCategory());
+    public void sendSingleNotification(Long userId, Long teamId, NotificationType type, Long actorId, Integer param) {
+        Notification notification = notificationService.sendNotification(userId, teamId, type, actorId, param);
         log.info("MentoringNotification Service sendSingleNotification 메서드 notification : {}", notification);
-        eventPublisher.publishEvent(new NotificationEvent(List.of(notification.getId()))); ;
     }
 
-    public void sendBulkNotification(List<User> users, Long teamId, String message, NotificationType type) {
-        List<Notification> notifications = users.stream()
-                .map(user -> new Notification(user, message, teamId, type.getTitle(), type.getCategory()))
-                .collect(Collectors.toList());
-
-        List<Long> notificationIds = notificationRepository.saveAll(notifications).stream()
-                .map(Notification::getId).collect(Collectors.toList());
-        eventPublisher.publishEvent(new NotificationEvent(notificationIds));
+    // targetAuthority: 알림을 받을 팀 내 권한 (users 를 조회한 조건과 같게), 팀원 전체면 null
+    public void sendBulkNotification(List<User> users, Long teamId, MentoringAuthority targetAuthority, String message, NotificationType type) {
+        // 팀원마다 행을 만들지 않고 팀 대상 알림 한 건으로 저장, 현재 팀원에게만 실시간 전송
+        broadcastNotificationService.sendTeamBroadcast(BroadcastAudience.MENTORING_TEAM, teamId,
+                targetAuthority == null ? null : targetAuthority.name(), users.stream().map(User::getId).toList(), message, type);
     }
 
 }
@@ -57,6 +57,7 @@ public class MentoringTeamService {
     private final MentoringParticipationPolicy mentoringParticipationPolicy;
     private final MentoringBoardRepository mentoringBoardRepository;
     private final RedisApplicantManagementService redisApplicantManagementService;
+    private final MentoringCacheService mentoringCacheService;
 
     /**
      * 멘토링팀 생성, 저장 로직
@@ -96,6 +97,7 @@ public class MentoringTeamService {
         mentoringTeam.mentoringTeamUpdate(dto); //업데이트 메서드
         teamCategoryService.removeTeamCategories(mentoringTeam);
         teamCategoryService.saveTeamCategories(mentoringTeam, dto.getCategories());
+        mentoringCacheService.evictAllAfterCommit();  // 게시글 목록에 팀 이름, 기간, 카테고리가 노출된다
 
     }
 
@@ -154,6 +156,7 @@ public class MentoringTeamService {
         mentoringBoardRepository.deleteByTeamId(mentoringTeamId);
         // 영속성 컨텍스트 초기화
         entityManager.clear();
+        mentoringCacheService.evictAllAfterCommit();
 
     }
 
@@ -6,6 +6,7 @@ import com.project.Teaming.domain.project.dto.response.ProjectPostListDto;
 import com.project.Teaming.domain.project.dto.response.ProjectPostStatusDto;
 import com.project.Teaming.domain.project.service.ProjectBoardService;
 import com.project.Teaming.domain.project.service.ProjectCacheService;
+import com.project.Teaming.global.cache.SingleFlight;
 import com.project.Teaming.global.result.ResultCode;
 import com.project.Teaming.global.result.pagenateResponse.PaginatedCursorResponse;
 import com.project.Teaming.global.result.ResultListResponse;
@@ -38,6 +39,7 @@ public class ProjectBoardController {
 
     private final ProjectBoardService projectBoardService;
     private final ProjectCacheService projectCacheService;
+    private final SingleFlight singleFlight;
 
     @PostMapping("/teams/{teamId}/posts")
     @Operation(summary = "프로젝트 글 등록", description = "프로젝트 팀에 대한 글 작성")
@@ -50,7 +52,8 @@ public class ProjectBoardController {
     @Operation(summary = "프로젝트 글 조회", description = "프로젝트 팀에서 작성한 게시물 상세 조회. isMember: 팀원 여부, isApply: 신청 여부")
     public ResultDetailResponse<ProjectPostInfoDto> getPostInfo(@PathVariable Long postId) {
         log.debug("success");
-        ProjectPostInfoDto postInfoDto = projectBoardService.getPostInfo(postId);
+        ProjectPostInfoDto postInfoDto = singleFlight.executeForViewer("project:post:" + postId,
+                () -> projectBoardService.getPostInfo(postId));
         return new ResultDetailResponse<>(ResultCode.GET_PROJECT_POST_INFO, postInfoDto);
     }
 
@@ -97,17 +100,10 @@ public class ProjectBoardController {
             @RequestParam(required = false) Long cursor, // 마지막 게시글 ID
             @RequestParam(defaultValue = "10") int pageSize) {
 
-        // 캐시에서 먼저 조회
-        PaginatedCursorResponse<ProjectPostListDto> cachePosts = projectCacheService.getCachePosts(cursor, pageSize);
-
-        if (cachePosts != null) {
-            return new ResultDetailResponse<>(ResultCode.GET_PROJECT_POST_LIST, cachePosts);
-        } else {
-            // 캐시가 없으면 DB에서 조회하여 캐시에 저장
-            PaginatedCursorResponse<ProjectPostListDto> posts = projectBoardService.getProjectPosts(cursor, pageSize);
-            projectCacheService.cachePosts(cursor, pageSize, posts);
-            return new ResultDetailResponse<>(ResultCode.GET_PROJECT_POST_LIST, posts);
-        }
+        // 캐시에서 먼저 조회하고, 캐시가 없으면 DB에서 조회하여 캐시에 저장 (동시 요청은 한 번만 조회)
+        PaginatedCursorResponse<ProjectPostListDto> posts = projectCacheService.getPosts(cursor, pageSize,
+                () -> projectBoardService.getProjectPosts(cursor, pageSize));
+        return new ResultDetailResponse<>(ResultCode.GET_PROJECT_POST_LIST, posts);
     }
 
     @GetMapping("/teams/{teamId}/posts")
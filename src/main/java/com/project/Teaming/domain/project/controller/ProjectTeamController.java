@@ -8,6 +8,7 @@ import com.project.Teaming.domain.project.dto.response.ProjectTeamInfoDto;
 import com.project.Teaming.domain.project.entity.ProjectTeam;
 import com.project.Teaming.domain.project.service.ProjectParticipationService;
 import com.project.Teaming.domain.project.service.ProjectTeamService;
+import com.project.Teaming.global.cache.SingleFlight;
 import com.project.Teaming.global.result.ResultCode;
 import com.project.Teaming.global.result.ResultDetailResponse;
 import com.project.Teaming.global.result.ResultListResponse;
@@ -33,6 +34,7 @@ public class ProjectTeamController {
 
     private final ProjectTeamService projectTeamService;
     private final ProjectParticipationService projectParticipationService;
+    private final SingleFlight singleFlight;
 
     @PostMapping("/project/teams")
     @Operation(summary = "프로젝트 팀 생성", description = "프로젝트를 생성하고 싶은 사용자는 프로젝트 팀 생성을 통해 프로젝트를 생성할 수 있고 해당 프로젝트의 팀장이 된다. \n기술 스택과 모집 구분은 [1, 2]와 같이 리스트 형태로 작성한다.(project_stack과 project_recruit_category의 id 값")
@@ -45,7 +47,7 @@ public class ProjectTeamController {
     @GetMapping("/project/teams/{teamId}")
     @Operation(summary = "프로젝트 팀 정보 조회", description = "특정 프로젝트 팀의 정보를 조회한다.")
     public ResultDetailResponse<ProjectTeamInfoDto> getTeam(@PathVariable Long teamId) {
-        ProjectTeamInfoDto dto = projectTeamService.getTeam(teamId);
+        ProjectTeamInfoDto dto = singleFlight.executeForViewer("project:team:" + teamId, () -> projectTeamService.getTeam(teamId));
         return new ResultDetailResponse<>(ResultCode.GET_PROJECT_TEAM, dto);
     }
 
@@ -1,7 +1,15 @@
 package com.project.Teaming.domain.project.repository;
 
 import com.project.Teaming.domain.project.entity.ProjectTeam;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectTeamRepository extends JpaRepository<ProjectTeam, Long> {
+
+    // 알림 메시지 렌더링용 이름 조회 (id, name)
+    @Query("select t.id, t.name from ProjectTeam t where t.id in :ids")
+    List<Object[]> findNamesByIds(@Param("ids") Collection<Long> ids);
 }
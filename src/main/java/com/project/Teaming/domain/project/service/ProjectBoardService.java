@@ -59,8 +59,8 @@ public class ProjectBoardService {
         ProjectTeam projectTeam = getProjectTeam(teamId);
         ProjectBoard post = ProjectBoard.projectBoard(createPostDto, projectTeam);
         projectBoardRepository.save(post);
-        // 게시글 추가 후 최신 게시글 반영을 위한 캐시 무효화. (첫 페이지 캐시 삭제)
-        projectCacheService.evictCache(null, 10);
+        // 게시글 추가 후 최신 게시글 반영을 위한 캐시 무효화. (모든 페이지)
+        projectCacheService.evictAllAfterCommit();
     }
 
     /**
@@ -141,6 +141,7 @@ public class ProjectBoardService {
             validateTeamMember(teamId);
             ProjectTeam projectTeam = getProjectTeam(teamId);
             projectBoard.updateProjectBoard(dto, projectTeam);
+            projectCacheService.evictAllAfterCommit();
         } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
             throw new BusinessException(ErrorCode.CONFLICT);
         }
@@ -154,6 +155,7 @@ public class ProjectBoardService {
         ProjectBoard projectBoard = getProjectBoard(postId);
         validateTeamMember(projectBoard.getProjectTeam().getId());
         projectBoardRepository.delete(projectBoard);
+        projectCacheService.evictAllAfterCommit();
     }
 
     /**
@@ -202,6 +204,7 @@ public class ProjectBoardService {
         ProjectBoard projectBoard = getProjectBoard(postId);
         validateTeamMember(projectBoard.getProjectTeam().getId());
         projectBoard.updateStatus();
+        projectCacheService.evictAllAfterCommit();
         return ProjectPostStatusDto.from(projectBoard);
     }
 
@@ -213,6 +216,9 @@ public class ProjectBoardService {
             post.checkDeadline();
             projectBoardRepository.save(post);
         }
+        if (!posts.isEmpty()) {
+            projectCacheService.evictAllAfterCommit();
+        }
     }
 
     // 팀원인지 검증하는 메서드
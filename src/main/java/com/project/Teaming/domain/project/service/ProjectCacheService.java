@@ -1,37 +1,44 @@
 package com.project.Teaming.domain.project.service;
 
 import com.project.Teaming.domain.project.dto.response.ProjectPostListDto;
+import com.project.Teaming.global.cache.CacheGeneration;
+import com.project.Teaming.global.cache.SingleFlightCache;
 import com.project.Teaming.global.result.pagenateResponse.PaginatedCursorResponse;
-import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 프로젝트 게시글 목록 캐시 (Redis db 1번).
+ * 캐시 키에 세대(generation) 값을 포함해, 게시글이 바뀌면 세대만 올려 모든 페이지를 한 번에 무효화한다.
+ * 캐시가 없을 때의 DB 조회는 SingleFlightCache 로 한 요청만 실행한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ProjectCacheService {
 
-    private final RedisTemplate<String, Object> postRedisTemplate;
-    private static final String POSTS_CACHE_KEY = "project_posts:";
+    private static final String CACHE_NAME = "project_posts";
 
-    // 캐시 조회 메서드
-    public PaginatedCursorResponse<ProjectPostListDto> getCachePosts(Long cursor, int pageSize) {
-        String cacheKey = POSTS_CACHE_KEY + cursor + ":" + pageSize;
-        return (PaginatedCursorResponse<ProjectPostListDto>) postRedisTemplate.opsForValue().get(cacheKey);
-    }
+    private final SingleFlightCache singleFlightCache;
+    private final CacheGeneration cacheGeneration;
 
-    // 캐시 갱신 메서드
-    public void cachePosts(Long cursor, int pageSize, PaginatedCursorResponse<ProjectPostListDto> posts) {
-        String cacheKey = POSTS_CACHE_KEY + cursor + ":" + pageSize;
+    /**
+     * 캐시된 게시글 목록을 반환하고, 없으면 loader 로 조회해 저장한다.
+     */
+    public PaginatedCursorResponse<ProjectPostListDto> getPosts(Long cursor, int pageSize,
+                                                                Supplier<PaginatedCursorResponse<ProjectPostListDto>> loader) {
+        String cacheKey = CACHE_NAME + ":" + cacheGeneration.current(CACHE_NAME) + ":" + cursor + ":" + pageSize;
         // jitter 개념을 적용. 캐시 만료 시간을 무작위로 조금 지연시켜서 DB 부하를 분산시키는 용도로 사용
-        int jitter = new Random().nextInt(10);  // 0~9초 랜덤
-        postRedisTemplate.opsForValue().set(cacheKey, posts, 1 + jitter, TimeUnit.MINUTES);
+        int jitter = ThreadLocalRandom.current().nextInt(10);  // 0~9분 랜덤
+        return singleFlightCache.get(CACHE_NAME, cacheKey, Duration.ofMinutes(1 + jitter), loader);
     }
 
-    // 캐시 삭제 메서드
-    public void evictCache(Long cursor, int pageSize) {
-        String cacheKey = POSTS_CACHE_KEY + cursor + ":" + pageSize;
-        postRedisTemplate.delete(cacheKey);
+    /**
+     * 게시글 목록 캐시 전체 무효화. 트랜잭션 안에서 호출하면 커밋 후에 반영된다.
+     */
+    public void evictAllAfterCommit() {
+        cacheGeneration.bumpAfterCommit(CACHE_NAME);
     }
 }
@@ -47,6 +47,7 @@ public class ProjectTeamService {
     private final TeamRecruitCategoryRepository teamRecruitCategoryRepository;
     private final ProjectParticipationRepository projectParticipationRepository;
     private final UserRepository userRepository;
+    private final ProjectCacheService projectCacheService;
 
     public ProjectTeam createTeam(CreateTeamDto dto) {
         ProjectTeam projectTeam = ProjectTeam.projectTeam(dto);
@@ -160,12 +161,14 @@ public class ProjectTeamService {
         projectTeam.updateProjectTeam(dto);
         projectTeam.updateStacks(stacks);
         projectTeam.updateRecruitCategories(recruitCategories);
+        projectCacheService.evictAllAfterCommit();  // 게시글 목록에 팀 이름, 기간, 기술 스택이 노출된다
     }
 
     public void deleteTeam(Long teamId) {
         ProjectTeam projectTeam = findProjectTeamById(teamId);
 
         projectTeamRepository.delete(projectTeam);
+        projectCacheService.evictAllAfterCommit();
     }
 
     public void updateTeamStatus(UpdateTeamStatusDto dto) {
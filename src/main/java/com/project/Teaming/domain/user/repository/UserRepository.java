@@ -2,6 +2,7 @@ package com.project.Teaming.domain.user.repository;
 
 import com.project.Teaming.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,6 +21,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    // 알림 메시지 렌더링용 이름 조회 (id, name)
+    @Query("select u.id, u.name from User u where u.id in :ids")
+    List<Object[]> findNamesByIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT u FROM User u WHERE u.isDelete = true AND u.lastModifiedDate < :thresholdDate")
     List<User> findDeletableUsers(@Param("thresholdDate") LocalDateTime thresholdDate);
 }
@@ -5,6 +5,7 @@ import com.project.Teaming.domain.user.repository.ReportRepository;
 import com.project.Teaming.domain.user.repository.ReviewRepository;
 import com.project.Teaming.domain.user.repository.UserRepository;
 import com.project.Teaming.global.sse.repository.NotificationRepository;
+import com.project.Teaming.global.sse.service.UnreadCountService;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class UserDeleteScheduler {
     private final NotificationRepository notificationRepository;
     private final ReportRepository reportRepository;
     private final ReviewRepository reviewRepository;
+    private final UnreadCountService unreadCountService;
 
     @Scheduled(cron = "0 0 3 * * ?")  // 매일 새벽 3시에 확인
     @Transactional
@@ -36,6 +38,7 @@ public class UserDeleteScheduler {
                     user.userDelete();
                 }
                 notificationRepository.deleteByUserId(user.getId());
+                unreadCountService.reset(user.getId());
                 reportRepository.deleteByReportedUserId(user.getId()); // 신고당한 경우
                 reviewRepository.deleteByRevieweeId(user.getId()); // 리뷰를 받은 경우
             }
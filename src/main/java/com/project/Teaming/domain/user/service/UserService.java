@@ -8,6 +8,7 @@ import com.project.Teaming.domain.mentoring.entity.MentoringTeam;
 import com.project.Teaming.domain.mentoring.repository.MentoringBoardRepository;
 import com.project.Teaming.domain.mentoring.repository.MentoringParticipationRepository;
 import com.project.Teaming.domain.mentoring.repository.MentoringTeamRepository;
+import com.project.Teaming.domain.mentoring.service.MentoringCacheService;
 import com.project.Teaming.domain.project.entity.ParticipationStatus;
 import com.project.Teaming.domain.project.entity.ProjectParticipation;
 import com.project.Teaming.domain.project.entity.ProjectRole;
@@ -16,6 +17,7 @@ import com.project.Teaming.domain.project.entity.Stack;
 import com.project.Teaming.domain.project.repository.ProjectBoardRepository;
 import com.project.Teaming.domain.project.repository.ProjectParticipationRepository;
 import com.project.Teaming.domain.project.repository.ProjectTeamRepository;
+import com.project.Teaming.domain.project.service.ProjectCacheService;
 import com.project.Teaming.domain.user.dto.request.UpdateUserInfoDto;
 import com.project.Teaming.domain.user.dto.response.ReviewDto;
 import com.project.Teaming.domain.user.dto.response.UserInfoDto;
@@ -64,6 +66,8 @@ public class UserService {
     private final UserNotificationService userNotificationService;
     private final MentoringParticipationRepository mentoringParticipationRepository;
     private final MentoringTeamRepository mentoringTeamRepository;
+    private final ProjectCacheService projectCacheService;
+    private final MentoringCacheService mentoringCacheService;
 
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
@@ -220,6 +224,7 @@ public class UserService {
                             projectBoardRepository.deleteByProjectTeamId(team.getId());
                             projectParticipationRepository.deleteAllByProjectTeamId(team.getId());
                             projectTeamRepository.delete(team);
+                            projectCacheService.evictAllAfterCommit();  // 삭제된 팀의 게시글이 목록 캐시에 남지 않도록
                         }
                 );
             }
@@ -249,6 +254,7 @@ public class UserService {
                             reviewRepository.updateProjectParticipationNull(participation.getId());
                             // 팀원이 없다면 모든 참여 기록 삭제 후 팀 삭제
                             mentoringTeamRepository.delete(team);
+                            mentoringCacheService.evictAllAfterCommit();  // 삭제된 팀의 게시글이 목록 캐시에 남지 않도록
                         }
                 );
             }
@@ -0,0 +1,17 @@
+package com.project.Teaming.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조기 갱신 판단을 위해 값과 함께 저장하는 정보.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheEntry {
+    private Object value;
+    private long computeMs;   // 값을 만드는 데 걸린 시간
+    private long expiresAt;   // 만료 시각 (epoch ms)
+}
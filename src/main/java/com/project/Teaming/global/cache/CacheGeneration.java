@@ -0,0 +1,51 @@
+package com.project.Teaming.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 이름별 세대(generation) 값 (Redis db 1번).
+ * 캐시 키에 세대 값을 포함해 두고, 데이터가 바뀌면 세대만 올려 그 캐시의 모든 키를 한 번에 무효화한다.
+ * 이전 세대의 키는 더 이상 조회되지 않고 TTL 이 지나면 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheGeneration {
+
+    private static final String GENERATION_KEY_SUFFIX = ":generation";
+
+    private final RedisTemplate<String, Object> postRedisTemplate;
+
+    /**
+     * 현재 세대. 한 번 읽은 세대로 캐시 조회와 저장을 모두 해야 한다.
+     * (DB 조회 중 세대가 바뀌었다면 조회 결과는 이전 세대로 저장되어 새 세대에서는 보이지 않는다)
+     */
+    public long current(String cacheName) {
+        Long generation = postRedisTemplate.opsForValue().increment(cacheName + GENERATION_KEY_SUFFIX, 0);  // 값 직렬화 없이 정수로 읽고, 없으면 0 으로 생성
+        return (generation == null) ? 0 : generation;
+    }
+
+    /**
+     * 캐시 전체 무효화. 트랜잭션 안에서 호출하면 커밋 후에 세대를 올린다.
+     * (커밋 전에 올리면 그 사이 다른 요청이 변경 전 데이터를 새 세대로 저장할 수 있다)
+     */
+    public void bumpAfterCommit(String cacheName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(cacheName);
+                }
+            });
+        } else {
+            bump(cacheName);
+        }
+    }
+
+    private void bump(String cacheName) {
+        postRedisTemplate.opsForValue().increment(cacheName + GENERATION_KEY_SUFFIX);
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.Teaming.global.cache;
+
+import com.project.Teaming.global.jwt.dto.SecurityUserDto;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 키의 조회가 동시에 들어오면 한 요청만 실행하고, 나머지는 그 결과(또는 예외)를 함께 받는다. (서버 내)
+ * 캐시가 만료된 순간 몰리는 요청이 같은 쿼리를 한꺼번에 DB 로 보내지 않도록 한다.
+ * 트랜잭션 밖(컨트롤러 등)에서 호출해야 기다리는 요청이 DB 커넥션을 붙잡지 않는다.
+ */
+@Component
+public class SingleFlight {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            return (T) await(running);
+        }
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 조회한 유저에 따라 응답이 달라지는 조회용. (권한, 참여 여부 등)
+     * 같은 유저의 요청끼리, 로그인하지 않은 요청끼리만 합친다.
+     */
+    public <T> T executeForViewer(String key, Supplier<T> loader) {
+        return execute(key + ":" + viewer(), loader);
+    }
+
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;  // BusinessException 등은 실행한 요청과 같은 응답으로 처리된다
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 대기 중 인터럽트", e);
+        }
+    }
+
+    private String viewer() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUserDto securityUser) {
+            return String.valueOf(securityUser.getUserId());
+        }
+        return ANONYMOUS;
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.Teaming.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 캐시(Redis db 1번) 조회. 캐시가 없거나 곧 만료될 때 한 요청만 DB 를 조회하도록 한다.
+ * - 서버 내: SingleFlight 로 같은 키의 동시 조회를 하나로 합친다.
+ * - 서버 간: Redis lease 를 잡은 서버만 조회하고, 나머지는 잠시 캐시가 채워지기를 기다린다. (lease-enabled)
+ * - 조기 갱신: 만료가 가까울수록, 값을 만드는 데 오래 걸릴수록 높은 확률로 만료 전에 미리 갱신한다. (XFetch)
+ *   갱신하는 동안 다른 요청은 기존 값을 그대로 받는다.
+ * 캐시 이름별 적중/실패 수를 cache.gets 지표(name, result 태그)로 기록한다.
+ */
+@Slf4j
+@Component
+public class SingleFlightCache {
+
+    private static final String LEASE_KEY = "lease:";
+
+    // lease 를 잡은 요청만 해제한다
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
+    private final RedisTemplate<String, Object> postRedisTemplate;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.single-flight.lease-enabled:true}")  // 서버 간 lease 사용 여부
+    private boolean leaseEnabled;
+
+    @Value("${cache.single-flight.lease-ms:3000}")  // lease 유지 시간 (조회가 이보다 오래 걸리면 다른 서버도 조회할 수 있다)
+    private long leaseMs;
+
+    @Value("${cache.single-flight.wait-ms:1000}")  // lease 를 못 잡은 서버가 캐시를 기다리는 최대 시간
+    private long waitMs;
+
+    @Value("${cache.single-flight.poll-ms:50}")  // 캐시를 기다리는 동안 확인 간격
+    private long pollMs;
+
+    @Value("${cache.single-flight.early-refresh-beta:1.0}")  // 클수록 일찍 갱신 (0 이면 조기 갱신 안 함)
+    private double beta;
+
+    public SingleFlightCache(@Qualifier("postRedisTemplate") RedisTemplate<String, Object> postRedisTemplate,
+                             SingleFlight singleFlight, MeterRegistry meterRegistry) {
+        this.postRedisTemplate = postRedisTemplate;
+        this.singleFlight = singleFlight;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 조기 갱신 대상이면 loader 로 만들어 ttl 동안 저장한다.
+     * @param cacheName 지표 태그로 쓰는 캐시 이름
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key, Duration ttl, Supplier<T> loader) {
+        CacheEntry entry = find(key);
+        meterRegistry.counter("cache.gets", "name", cacheName, "result", (entry == null) ? "miss" : "hit").increment();
+        if (entry != null && !shouldRefreshEarly(entry)) {
+            return (T) entry.getValue();
+        }
+        return singleFlight.execute(key, () -> load(key, ttl, loader, entry));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(String key, Duration ttl, Supplier<T> loader, CacheEntry stale) {
+        if (!leaseEnabled) {
+            return compute(key, ttl, loader);
+        }
+        String token = UUID.randomUUID().toString();
+        String leaseKey = LEASE_KEY + key;
+        if (Boolean.TRUE.equals(postRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseMs, TimeUnit.MILLISECONDS))) {
+            try {
+                return compute(key, ttl, loader);
+            } finally {
+                postRedisTemplate.execute(RELEASE, List.of(leaseKey), token);
+            }
+        }
+
+        // 다른 서버가 갱신 중. 기존 값이 있으면 그대로 쓰고, 없으면 채워지기를 잠시 기다린다
+        if (stale != null) {
+            return (T) stale.getValue();
+        }
+        CacheEntry filled = awaitFill(key);
+        return (filled != null) ? (T) filled.getValue() : compute(key, ttl, loader);
+    }
+
+    private <T> T compute(String key, Duration ttl, Supplier<T> loader) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long now = System.currentTimeMillis();
+        postRedisTemplate.opsForValue().set(key, new CacheEntry(value, now - start, now + ttl.toMillis()), ttl);
+        return value;
+    }
+
+    private CacheEntry awaitFill(String key) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(pollMs);
+                CacheEntry entry = find(key);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    // XFetch: now - computeMs * beta * ln(rand) >= expiresAt 이면 갱신 (ln(rand) < 0)
+    private boolean shouldRefreshEarly(CacheEntry entry) {
+        if (beta <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        if (random == 0) {
+            return true;
+        }
+        return System.currentTimeMillis() - entry.getComputeMs() * beta * Math.log(random) >= entry.getExpiresAt();
+    }
+
+    // 이전 형식으로 저장된 값은 캐시가 없는 것으로 본다
+    private CacheEntry find(String key) {
+        try {
+            return (postRedisTemplate.opsForValue().get(key) instanceof CacheEntry entry) ? entry : null;
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+}
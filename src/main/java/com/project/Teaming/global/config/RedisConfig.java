@@ -64,9 +64,9 @@ public class RedisConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory(1));
 
-        // 직렬화
+        // 직렬화 (멘토링 게시글 목록의 LocalDate 필드를 위해 JavaTimeModule 이 등록된 ObjectMapper 사용)
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer(redisObjectMapper()));
 
         return template;
     }
@@ -85,6 +85,12 @@ public class RedisConfig {
         return template;
     }
 
+    // 알림(SSE 재전송 버퍼 등) db(3번)용 RedisTemplate
+    @Bean
+    public StringRedisTemplate notificationRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory(3));
+    }
+
     @Bean
     public ObjectMapper redisObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -59,6 +59,8 @@ public class SecurityConfig {
                                 "/users/{userId}/project","/users/{userId}/mentoring/teams","/health").permitAll() // 특정 경로 허용
                         .requestMatchers(HttpMethod.GET, "/project/teams/{teamId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/project/posts/{postId}").permitAll()
+                        // 운영 API 는 관리자만. security.admin-emails 에 등록한 유저, 또는 userRole 이 ADMIN 인 유저 (JwtAuthFilter 참고)
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 그 외 모든 요청 인증 필요
                 );
 
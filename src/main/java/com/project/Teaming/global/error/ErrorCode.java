@@ -87,7 +87,9 @@ public enum ErrorCode {
     NOT_FOUND_NOTIFICATION(404, "N001", "id에 해당되는 알림이 존재하지 않습니다."),
     NOT_CONNECTED(404,"N002","해당 유저는 SSE에 연결되어있지 않습니다."),
     NOT_VALID_IDS(404, "N003", "유효한 알림 ID가 없습니다."),
-    NOT_AUTHORIZED(404, "N004", "권한이 없는 ID가 포함되어 있습니다.");
+    NOT_AUTHORIZED(404, "N004", "권한이 없는 ID가 포함되어 있습니다."),
+    INVALID_NOTIFICATION_CURSOR(400, "N005", "유효하지 않은 알림 커서입니다."),
+    NOT_FOUND_NOTIFICATION_JOB(404, "N006", "id에 해당되는 알림 일괄 처리 작업이 존재하지 않습니다.");
 
     private int status;
     private final String code;
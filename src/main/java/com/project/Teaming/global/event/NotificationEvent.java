@@ -1,15 +1,57 @@
 package com.project.Teaming.global.event;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.io.Serializable;
 import java.util.List;
 
+/**
+ * 알림 전송 이벤트 (RabbitMQ 메시지).
+ * v0: notificationIds 만 담김 → 컨슈머가 DB 조회
+ * v2: 알림 내용까지 담김 → 컨슈머가 DB 를 조회하지 않음
+ */
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class NotificationEvent {
-    private List<Long> notificationIds;
+
+    public static final int CURRENT_VERSION = 2;
+
+    @JsonProperty("v")
+    private int version;  // 필드가 없는 이전 버전 메시지는 0
+
+    private List<Long> notificationIds;  // v0 호환용, v2 에서는 보내지 않음
+
+    @JsonProperty("n")
+    @JsonAlias("notifications")
+    private List<NotificationMessage> notifications;
+
+    @JsonProperty("pt")
+    private Long publishedAt;  // 커밋 후 전달 경로로 발행한 시각 (epoch ms, 지연 추적용)
+
+    public static NotificationEvent of(List<NotificationMessage> notifications) {
+        return new NotificationEvent(CURRENT_VERSION, null, notifications, null);
+    }
+
+    /**
+     * 전달 경로로 발행하는 시점에 만드는 이벤트. 발행 시각을 함께 담는다.
+     */
+    public static NotificationEvent published(List<NotificationMessage> notifications) {
+        return new NotificationEvent(CURRENT_VERSION, null, notifications, System.currentTimeMillis());
+    }
+
+    /**
+     * 이벤트에 담긴 알림 id 목록 (버전 무관)
+     */
+    public List<Long> ids() {
+        return (notifications == null) ? notificationIds
+                : notifications.stream().map(NotificationMessage::getNotificationId).toList();
+    }
 }
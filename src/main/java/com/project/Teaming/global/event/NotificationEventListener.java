@@ -1,6 +1,10 @@
 package com.project.Teaming.global.event;
 
-import com.project.Teaming.global.messageQueue.publisher.RabbitMQNotificationPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.messageQueue.outbox.NotificationOutbox;
+import com.project.Teaming.global.messageQueue.outbox.NotificationOutboxRelay;
+import com.project.Teaming.global.messageQueue.outbox.NotificationOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,13 +17,25 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Slf4j
 public class NotificationEventListener {
 
-    private final RabbitMQNotificationPublisher rabbitMQNotificationPublisher;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * 알림을 저장한 호출자 트랜잭션의 커밋 직전에 outbox 에 이벤트를 기록한다. 알림이 커밋되면 이벤트도 반드시 남으며,
+     * 메모리에만 머무는 구간이 없으므로 커밋 직후 서버가 죽어도 다른 서버의 relay 가 발행한다.
+     * 트랜잭션 밖에서 발행된 이벤트도 버리지 않고 바로 기록한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void saveToOutbox(NotificationEvent event) throws JsonProcessingException {
+        outboxRepository.save(new NotificationOutbox(objectMapper.writeValueAsString(event)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void sendNotificationsAfterTransaction(NotificationEvent event) {
-        log.info("✅ 트랜잭션 종료 후 RabbitMQ 알림 이벤트 발행: {}", event.getNotificationIds());
+        log.info("✅ 트랜잭션 종료 후 알림 이벤트 발행 요청: {}", event.ids());
 
-        // 트랜잭션이 성공적으로 커밋된 후 RabbitMQ로 이벤트 발행
-        rabbitMQNotificationPublisher.sendNotificationEvent(event);
+        // 트랜잭션이 성공적으로 커밋된 후 outbox relay 가 바로 RabbitMQ 로 발행 (요청 스레드는 기다리지 않음)
+        outboxRelay.wakeUp();
     }
 }
@@ -0,0 +1,91 @@
+package com.project.Teaming.global.event;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.project.Teaming.global.sse.connection.DeliveryTrace;
+import com.project.Teaming.global.sse.entity.BroadcastNotification;
+import com.project.Teaming.global.sse.entity.Notification;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 알림 한 건의 전송 정보. 컨슈머가 DB 를 조회하지 않고 바로 SSE 로 보낼 수 있도록 렌더링된 내용을 모두 담는다.
+ * 메시지 크기를 줄이기 위해 짧은 필드명을 사용하며, 이전 버전의 긴 필드명도 읽을 수 있다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NotificationMessage {
+
+    @JsonProperty("i")
+    @JsonAlias("notificationId")
+    private Long notificationId;
+
+    @JsonProperty("u")
+    @JsonAlias("userId")
+    private Long userId;
+
+    @JsonProperty("t")
+    private String type;
+
+    @JsonProperty("c")
+    private String category;
+
+    @JsonProperty("tm")
+    private Long teamId;
+
+    @JsonProperty("m")
+    private String message;
+
+    @JsonProperty("at")
+    private String createdAt;  // LocalDateTime#toString 형식 (SSE 페이로드와 동일)
+
+    @JsonProperty("r")
+    private boolean read;
+
+    @JsonIgnore
+    @Setter
+    private DeliveryTrace trace;  // 이 서버에 도착한 뒤 채워지는 단계별 시각 (지연 추적용)
+
+    private NotificationMessage(Long notificationId, Long userId, String type, String category, Long teamId,
+                                String message, String createdAt, boolean read) {
+        this.notificationId = notificationId;
+        this.userId = userId;
+        this.type = type;
+        this.category = category;
+        this.teamId = teamId;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.read = read;
+    }
+
+    /**
+     * @param message 렌더링된 메시지 (NotificationRenderer 참고)
+     */
+    public static NotificationMessage from(Notification notification, String type, String category, String message) {
+        return new NotificationMessage(notification.getId(), notification.getUser().getId(), type,
+                category, notification.getTeamId(), message,
+                notification.getCreatedAt().toString(), notification.isRead());
+    }
+
+    /**
+     * 브로드캐스트 알림을 수신자 한 명에게 보내는 메시지 (id 는 브로드캐스트 알림 id)
+     */
+    public static NotificationMessage of(BroadcastNotification broadcast, Long userId) {
+        return new NotificationMessage(broadcast.getId(), userId, broadcast.getType(), broadcast.getCategory(),
+                broadcast.getTeamId(), broadcast.getMessage(), broadcast.getCreatedAt().toString(), false);
+    }
+
+    /**
+     * 내용 없이 id 만 담긴 이전 버전 메시지인지 여부
+     */
+    @JsonIgnore
+    public boolean hasPayload() {
+        return type != null && createdAt != null;
+    }
+}
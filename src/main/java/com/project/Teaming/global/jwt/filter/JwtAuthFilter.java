@@ -13,10 +13,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -40,6 +43,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    // 운영 API(/admin/**) 권한을 줄 유저 이메일 (쉼표 구분). DB 의 userRole 을 바꾸지 않고 환경 설정으로 운영자를 지정한다
+    @Value("${security.admin-emails:}")
+    private Set<String> adminEmails;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -134,8 +142,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * userRole 로 만든 권한에, security.admin-emails 에 포함된 유저는 ROLE_ADMIN 을 더한다.
+     * (userRole 이 ADMIN 인 유저도 ROLE_ADMIN 으로 인증된다)
+     */
     public Authentication getAuthentication(SecurityUserDto member) {
-        return new UsernamePasswordAuthenticationToken(member, "",
-                List.of(new SimpleGrantedAuthority(member.getRole())));
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority(member.getRole()));
+        if (!ADMIN_ROLE.equals(member.getRole()) && adminEmails.contains(member.getEmail())) {
+            authorities.add(new SimpleGrantedAuthority(ADMIN_ROLE));
+        }
+        return new UsernamePasswordAuthenticationToken(member, "", authorities);
     }
 }
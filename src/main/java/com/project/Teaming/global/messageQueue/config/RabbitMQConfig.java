@@ -1,6 +1,7 @@
 package com.project.Teaming.global.messageQueue.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.sse.entity.NotificationLane;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
@@ -8,23 +9,44 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
 @Configuration
 public class RabbitMQConfig {
 
+    public static final String DEAD_LETTER_QUEUE_NAME = "notification.dlq";
+    public static final String RETRY_EXCHANGE_NAME = "notification.retry";
+    public static final String RETRY_QUEUE_PREFIX = "notification.retry.";
+    public static final String RETRY_DELAY_HEADER = "x-retry-delay";
+    public static final String PARKING_LOT_QUEUE_NAME = "notification.parking-lot";
+
     @Value("${server.id}") // application.yml에서 설정된 SERVER_ID 값을 주입
     private String serverId;
 
     @Value("${spring.rabbitmq.host}")
     private String rabbitHost;
+
+    @Value("${notification.queue.expires-ms:600000}")  // 컨슈머가 없는 상태로 이 시간이 지나면 broker 가 서버 큐를 삭제
+    private int queueExpiresMs;
+
+    @Value("${notification.queue.message-ttl-ms:300000}")  // 서버 큐에서 이 시간 동안 소비되지 않은 메시지는 만료
+    private int messageTtlMs;
+
+    /**
+     * 서버별 큐. scale-in 이나 server.id 변경 후 남은 큐가 메시지를 계속 쌓지 않도록
+     * 컨슈머가 없으면 x-expires 후 삭제되고, 오래 소비되지 않은 메시지는 x-message-ttl 로 만료된다.
+     * (정상 종료 시에는 NotificationNodeLifecycle 이 바로 삭제)
+     */
     @Bean
     public Queue queue() {
-        return QueueBuilder.durable(serverId)
-                .withArgument("x-dead-letter-exchange", "notification.dlx")
-                .withArgument("x-dead-letter-routing-key", "dlq.routing.key")
-                .build();
+        return nodeQueue(serverId);
     }
     @Bean
     public Binding binding(FanoutExchange exchange, Queue queue) {
@@ -35,6 +57,38 @@ public class RabbitMQConfig {
         return new FanoutExchange("notification.exchange");
     }
 
+    // 유저가 연결된 서버의 큐로만 보내기 위한 exchange (routing key = server.id)
+    // fanout 바인딩은 배포 중 이전 버전 서버가 발행한 이벤트를 받기 위해 유지한다
+    @Bean
+    public DirectExchange directExchange() {
+        return new DirectExchange("notification.direct");
+    }
+
+    @Bean
+    public Binding directBinding(DirectExchange directExchange, Queue queue) {
+        return BindingBuilder.bind(queue).to(directExchange).with(serverId);
+    }
+
+    // 우선 lane 큐 (경고 등). 일반 큐와 컨슈머를 공유하지 않아 참가 신청 적체에 밀리지 않는다
+    @Bean
+    public Queue priorityQueue() {
+        return nodeQueue(serverId + NotificationLane.PRIORITY.getQueueSuffix());
+    }
+
+    @Bean
+    public Binding priorityBinding(DirectExchange directExchange, Queue priorityQueue) {
+        return BindingBuilder.bind(priorityQueue).to(directExchange).with(priorityQueue.getName());
+    }
+
+    private Queue nodeQueue(String name) {
+        return QueueBuilder.durable(name)
+                .expires(queueExpiresMs)
+                .ttl(messageTtlMs)
+                .withArgument("x-dead-letter-exchange", "notification.dlx")
+                .withArgument("x-dead-letter-routing-key", "dlq.routing.key")
+                .build();
+    }
+
     @Bean
     public DirectExchange deadLetterExchange() {
         return new DirectExchange("notification.dlx");
@@ -42,7 +96,7 @@ public class RabbitMQConfig {
 
     @Bean
     public Queue deadLetterQueue() {
-        return QueueBuilder.durable("notification.dlq").build();
+        return QueueBuilder.durable(DEAD_LETTER_QUEUE_NAME).build();
     }
 
     @Bean
@@ -53,6 +107,34 @@ public class RabbitMQConfig {
                 .with("dlq.routing.key"); // 일반 큐에서 설정한 routing key
     }
 
+    /**
+     * DLQ 재처리용 지연 큐.
+     * 재시도 메시지는 x-retry-delay 헤더로 단계별 지연 큐에 들어가 TTL 이 지나면 notification.direct 로 dead-letter 된다.
+     * 이때 routing key(= 원래 서버 큐 이름)가 유지되어 원래 큐로 돌아간다.
+     */
+    @Bean
+    public Declarables retryDeclarables(@Value("${notification.retry.delays-ms:5000,30000,300000}") List<Long> delaysMs) {
+        HeadersExchange retryExchange = new HeadersExchange(RETRY_EXCHANGE_NAME);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(retryExchange);
+        for (Long delayMs : delaysMs) {
+            Queue delayQueue = QueueBuilder.durable(RETRY_QUEUE_PREFIX + delayMs + "ms")
+                    .ttl(delayMs.intValue())
+                    .deadLetterExchange("notification.direct")
+                    .build();
+            declarables.add(delayQueue);
+            declarables.add(BindingBuilder.bind(delayQueue).to(retryExchange)
+                    .whereAll(Map.of(RETRY_DELAY_HEADER, String.valueOf(delayMs))).match());
+        }
+        return new Declarables(declarables);
+    }
+
+    // 최대 재시도 횟수를 넘긴 메시지를 보관하는 큐 (운영 API 로 조회/재처리)
+    @Bean
+    public Queue parkingLotQueue() {
+        return QueueBuilder.durable(PARKING_LOT_QUEUE_NAME).build();
+    }
+
     @Bean
     public Jackson2JsonMessageConverter jsonMessageConverter() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -73,6 +155,8 @@ public class RabbitMQConfig {
         cachingConnectionFactory.setPassword("password");
         cachingConnectionFactory.setChannelCacheSize(50);
         cachingConnectionFactory.setCacheMode(CachingConnectionFactory.CacheMode.CHANNEL);
+        // outbox relay 가 waitForConfirmsOrDie 로 발행 성공을 확인한다
+        cachingConnectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
         return cachingConnectionFactory;
     }
 }
\ No newline at end of file
@@ -6,23 +6,93 @@ import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
 @Configuration
 @EnableRabbit
 public class RabbitMQConsumerConfig {
 
+    // lane 큐의 컨슈머 수. lane 안의 전달 순서는 컨슈머가 하나일 때만 유지되므로 기본은 1 이며, 처리량은 batch-size 로 늘린다
+    // (2 이상이면 같은 유저의 알림도 컨슈머 사이에서 순서가 바뀔 수 있다. 자동 확장도 같은 이유로 하지 않는다)
+    @Value("${notification.consumer.concurrency:1}")
+    private int concurrency;
+
+    @Value("${notification.consumer.prefetch:250}")  // 컨슈머가 한 번에 가져올 메시지 개수 (batch-size 이상)
+    private int prefetch;
+
+    @Value("${notification.consumer.batch-size:50}")  // 한 번에 묶어 처리할 최대 메시지 수
+    private int batchSize;
+
+    @Value("${notification.consumer.receive-timeout-ms:20}")  // 묶음이 덜 찼을 때 기다리는 최대 시간
+    private long receiveTimeoutMs;
+
+    @Value("${notification.consumer.priority.concurrency:1}")  // 우선 lane 큐 컨슈머 수 (일반 lane 과 별도, 순서는 concurrency 와 같음)
+    private int priorityConcurrency;
+
+    @Value("${notification.consumer.priority.batch-size:10}")  // 우선 lane 은 작은 묶음으로 바로 전달
+    private int priorityBatchSize;
+
+    @Value("${notification.consumer.priority.receive-timeout-ms:5}")
+    private long priorityReceiveTimeoutMs;
+
+    @Value("${notification.retry.prefetch:20}")  // DLQ 재처리 컨슈머가 한 번에 가져올 메시지 개수
+    private int retryPrefetch;
+
+    /**
+     * 메시지를 batch-size 개 또는 receive-timeout 동안 모아 List 로 한 번에 전달하는 배치 리스너 설정
+     */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(CachingConnectionFactory cachingConnectionFactory,
                                                                                Jackson2JsonMessageConverter jsonMessageConverter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(cachingConnectionFactory);
-        factory.setConcurrentConsumers(30);  // 동시에 메시지 처리 할 개수
-        factory.setMaxConcurrentConsumers(50);  // 최대 확장 가능 개수
-        factory.setPrefetchCount(10);  // 컨슈머가 한 번에 가져올 메시지 개수 설정
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(concurrency);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
         factory.setMessageConverter(jsonMessageConverter);
         factory.setAcknowledgeMode(AcknowledgeMode.MANUAL); // 수동 ACK 모드 설정
         return factory;
     }
+
+    /**
+     * 우선 lane 큐 전용 배치 리스너 설정. 일반 lane 과 consumer/prefetch 를 공유하지 않아 적체의 영향을 받지 않는다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory priorityListenerContainerFactory(CachingConnectionFactory cachingConnectionFactory,
+                                                                                 Jackson2JsonMessageConverter jsonMessageConverter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(cachingConnectionFactory);
+        factory.setConcurrentConsumers(priorityConcurrency);
+        factory.setMaxConcurrentConsumers(priorityConcurrency);
+        factory.setPrefetchCount(priorityBatchSize);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(priorityBatchSize);
+        factory.setReceiveTimeout(priorityReceiveTimeoutMs);
+        factory.setMessageConverter(jsonMessageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * DLQ 재처리 전용 리스너 설정. 알림 전달 컨테이너와 consumer/prefetch 를 공유하지 않도록 분리한다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory retryListenerContainerFactory(CachingConnectionFactory cachingConnectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(cachingConnectionFactory);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(retryPrefetch);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
 }
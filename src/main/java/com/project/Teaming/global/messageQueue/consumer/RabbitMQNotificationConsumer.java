@@ -1,90 +1,101 @@
 package com.project.Teaming.global.messageQueue.consumer;
 
 import com.project.Teaming.global.event.NotificationEvent;
-import com.project.Teaming.global.sse.dto.EventPayload;
-import com.project.Teaming.global.sse.dto.EventWithTeamPayload;
-import com.project.Teaming.global.sse.entity.Notification;
-import com.project.Teaming.global.sse.repository.EmitterRepository;
-import com.project.Teaming.global.sse.repository.NotificationRepository;
-import com.project.Teaming.global.sse.service.SseEmitterService;
+import com.project.Teaming.global.messageQueue.transport.LocalNotificationDispatcher;
 import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 
 @Component
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RabbitMQNotificationConsumer {
 
-    private final SseEmitterService sseEmitterService;
-    private final EmitterRepository emitterRepository;
-    private final NotificationRepository notificationRepository;
+    private final LocalNotificationDispatcher localNotificationDispatcher;
+    private final Jackson2JsonMessageConverter jsonMessageConverter;
 
     @Value("${server.id}") // application.yml에서 설정된 SERVER_ID 값을 주입
     private String serverId;
 
-    @Transactional(readOnly = true)
+    /**
+     * 배치 리스너. 묶음 단위로 메시지를 변환해 LocalNotificationDispatcher 로 한 번에 전달하고,
+     * 마지막 delivery tag 로 한 번에 ack 한다.
+     */
     @RabbitListener(queues = {"${server.id}"},
             containerFactory = "rabbitListenerContainerFactory")
-    public void receiveNotification(NotificationEvent event, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws IOException {
-
-        try {
-            List<Notification> notifications = notificationRepository.findAllById(event.getNotificationIds());
-            notifications.forEach(notification -> {
-                Long userId = notification.getUser().getId();
-                SseEmitter emitter = emitterRepository.findById(userId);
+    public void receiveNotifications(List<Message> messages, Channel channel) throws IOException {
+        dispatch(messages, channel);
+    }
 
-                if (emitter != null) {
-                    // ✅ SSE 연결된 서버라면 알림 전송
-                    sendNotification(userId, notification);
-                    log.info("🚀 SSE 알림 전송 완료 → User: {}", userId);
-                } else {
-                    log.warn("⚠️ SSE 연결 없음 ");
-                }
-            });
-            channel.basicAck(tag, false);
-        } catch (Exception e) {
-            channel.basicNack(tag, false,false);
-            log.error("DLQ로 메세지 이동됨: {}", e.getMessage(), e);
-        }
+    /**
+     * 우선 lane 큐 리스너. 별도 컨테이너에서 처리되어 일반 lane 적체에 밀리지 않는다.
+     */
+    @RabbitListener(queues = {"${server.id}.priority"},
+            containerFactory = "priorityListenerContainerFactory")
+    public void receivePriorityNotifications(List<Message> messages, Channel channel) throws IOException {
+        dispatch(messages, channel);
     }
 
+    /**
+     * 해석할 수 없는 메시지를 먼저 하나씩 DLQ 로 보낸(nack) 뒤, 정상 메시지는 가장 큰 delivery tag 로 한 번에 ack 한다.
+     * multiple ack 는 아직 처리되지 않은 tag 만 대상으로 하므로, 이미 nack 한 메시지가 다시 처리되지 않는다.
+     * (같은 tag 를 두 번 처리하면 broker 가 채널을 닫아 묶음 전체가 재전송된다)
+     */
+    private void dispatch(List<Message> messages, Channel channel) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<NotificationEvent> events = new ArrayList<>(messages.size());
+        List<Long> malformedTags = new ArrayList<>();
+        long lastHandledTag = -1;
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            NotificationEvent event = decode(message);
+            if (event == null) {
+                malformedTags.add(deliveryTag);
+            } else {
+                events.add(event);
+                lastHandledTag = Math.max(lastHandledTag, deliveryTag);
+            }
+        }
 
-        private void sendNotification(Long userId, Notification notification){
-            try {
-                Object payload = (notification.getTeamId() != null) ?
-                        EventWithTeamPayload.builder()
-                                .userId(userId)
-                                .type(notification.getType())
-                                .category(notification.getCategory())
-                                .teamId(notification.getTeamId())
-                                .createdAt(notification.getCreatedAt().toString())
-                                .message(notification.getMessage())
-                                .isRead(notification.isRead())
-                                .build() :
-                        EventPayload.builder()
-                                .userId(userId)
-                                .type(notification.getType())
-                                .category(notification.getCategory())
-                                .createdAt(notification.getCreatedAt().toString())
-                                .message(notification.getMessage())
-                                .isRead(notification.isRead())
-                                .build();
+        for (long malformedTag : malformedTags) {
+            channel.basicNack(malformedTag, false, false);
+        }
+        if (lastHandledTag == -1) {
+            return;
+        }
 
-                sseEmitterService.sendToClient(userId, payload);
-            } catch (Exception e) {
-                log.error("❌ SSE 알림 전송 실패: {}", e.getMessage(), e);
+        try {
+            localNotificationDispatcher.dispatch(events);
+            channel.basicAck(lastHandledTag, true);
+        } catch (Exception e) {
+            log.error("DLQ로 메세지 이동됨: count={}, error={}", events.size(), e.getMessage(), e);
+            if (channel.isOpen()) {
+                channel.basicNack(lastHandledTag, true, false);
             }
         }
     }
+
+    // 해석할 수 없는 메시지는 null 을 반환하고, 해당 메시지만 DLQ 로 보낸다 (dispatch 참고)
+    private NotificationEvent decode(Message message) {
+        try {
+            return (NotificationEvent) jsonMessageConverter.fromMessage(message, NotificationEvent.class);
+        } catch (Exception e) {
+            log.error("DLQ로 메세지 이동됨 (변환 실패): {}", e.getMessage());
+            return null;
+        }
+    }
+}
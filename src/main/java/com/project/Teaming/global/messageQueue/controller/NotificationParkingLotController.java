@@ -0,0 +1,38 @@
+package com.project.Teaming.global.messageQueue.controller;
+
+import com.project.Teaming.global.messageQueue.dto.ParkingLotReplayResponse;
+import com.project.Teaming.global.messageQueue.dto.ParkingLotResponse;
+import com.project.Teaming.global.messageQueue.retry.NotificationParkingLotService;
+import com.project.Teaming.global.result.ResultCode;
+import com.project.Teaming.global.result.ResultDetailResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
+@RequestMapping("/admin/notifications/parking-lot")
+@RequiredArgsConstructor
+@Tag(name = "알림 운영", description = "재시도에 실패한 알림 메시지 운영 API")
+public class NotificationParkingLotController {
+
+    private final NotificationParkingLotService parkingLotService;
+
+    @GetMapping
+    @Operation(summary = "parking lot 메시지 조회", description = "최대 재시도 횟수를 넘긴 알림 메시지를 앞에서부터 조회한다. 조회한 메시지는 큐에 그대로 남는다.")
+    public ResultDetailResponse<ParkingLotResponse> getParkedNotifications(@RequestParam(defaultValue = "50") int limit) {
+        return new ResultDetailResponse<>(ResultCode.GET_PARKED_NOTIFICATIONS, parkingLotService.inspect(limit));
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "parking lot 메시지 재처리", description = "parking lot 의 알림 메시지를 최대 limit 건까지 시도 횟수를 초기화해 원래 서버 큐로 다시 보낸다.")
+    public ResultDetailResponse<ParkingLotReplayResponse> replayParkedNotifications(@RequestParam(defaultValue = "100") int limit) {
+        return new ResultDetailResponse<>(ResultCode.REPLAY_PARKED_NOTIFICATIONS, parkingLotService.replay(limit));
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.Teaming.global.messageQueue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * parking lot 에 보관된 알림 메시지 한 건
+ */
+@Data
+@AllArgsConstructor
+public class ParkedNotificationResponse {
+    private String originQueue;   // 원래 전달되던 서버 큐
+    private Integer attempts;     // 재시도 횟수
+    private String reason;        // parking lot 으로 옮겨진 이유
+    private String payload;       // 메시지 본문 (NotificationEvent JSON)
+}
@@ -0,0 +1,11 @@
+package com.project.Teaming.global.messageQueue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ParkingLotReplayResponse {
+    private int replayedCount;   // 원래 큐로 다시 보낸 메시지 수
+    private int skippedCount;    // 원래 큐를 알 수 없어 parking lot 에 남긴 메시지 수
+}
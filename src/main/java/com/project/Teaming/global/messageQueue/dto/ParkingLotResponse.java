@@ -0,0 +1,12 @@
+package com.project.Teaming.global.messageQueue.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ParkingLotResponse {
+    private long totalCount;     // parking lot 전체 메시지 수
+    private List<ParkedNotificationResponse> messages;    // 앞에서부터 조회한 메시지
+}
@@ -0,0 +1,105 @@
+package com.project.Teaming.global.messageQueue.node;
+
+import com.project.Teaming.global.messageQueue.transport.NotificationTransport;
+import com.project.Teaming.global.sse.repository.NotificationNodeRepository;
+import com.project.Teaming.global.sse.repository.SchedulerLockRepository;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버별 알림 큐(stream)의 등록/정리 handshake. 전달 경로(NotificationTransport)와 관계없이 동작한다.
+ * 기동 시 서버를 등록하고 하트비트를 갱신하며, 정상 종료 시 등록을 지우고 자기 큐를 정리한다.
+ * 하트비트가 끊긴 서버의 큐는 살아있는 서버가 대신 정리한다. 실제 정리는 NotificationTransport#releaseNode 가 한다.
+ * 이 handshake 를 거치지 못한 큐도 일정 시간 뒤 만료된다. (amqp: x-expires, redis-stream: key TTL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationNodeLifecycle implements SmartLifecycle {
+
+    private static final String SWEEP_LOCK_NAME = "notification-node-sweep";
+
+    private final NotificationTransport notificationTransport;
+    private final NotificationNodeRepository nodeRepository;
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    @Value("${server.id}")
+    private String serverId;
+
+    @Value("${notification.node.heartbeat-ms:30000}")  // 등록 갱신 주기
+    private long heartbeatMs;
+
+    @Value("${notification.node.ttl-ms:90000}")  // 이 시간 동안 갱신이 없으면 종료된 서버로 본다
+    private long ttlMs;
+
+    @Value("${notification.node.delete-queues-on-shutdown:true}")  // 정상 종료 시 자기 큐(stream) 정리 여부
+    private boolean deleteQueuesOnShutdown;
+
+    private volatile boolean running = false;
+
+    @Override
+    public void start() {
+        nodeRepository.save(serverId, System.currentTimeMillis() + ttlMs);
+        running = true;
+        sweep();
+        log.info("📡 알림 노드 등록: serverId={}", serverId);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.node.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (!running) {
+            return;
+        }
+        nodeRepository.save(serverId, System.currentTimeMillis() + ttlMs);
+        if (schedulerLockRepository.tryLock(SWEEP_LOCK_NAME, Duration.ofMillis(heartbeatMs))) {
+            sweep();
+        }
+    }
+
+    /**
+     * 등록을 먼저 지워 다른 서버가 이 노드를 정리 대상으로 보지 않게 한 뒤, 자기 큐를 정리한다.
+     * 컨슈머가 모두 멈춘 뒤에 실행되며, 남은 메시지는 버려진다. (DB 에 저장되어 있어 재연결 시 재전송/조회로 복구)
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            nodeRepository.delete(serverId);
+            if (deleteQueuesOnShutdown) {
+                notificationTransport.releaseNode(serverId);
+            }
+            log.info("📴 알림 노드 해제: serverId={}", serverId);
+        } catch (Exception e) {
+            log.warn("알림 노드 해제 실패 (큐는 만료 시간 뒤 정리됨): serverId={}, error={}", serverId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 리스너 컨테이너(DEFAULT_PHASE)가 멈춘 뒤에 큐를 지우도록 더 늦게 멈춘다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // 하트비트가 만료된 서버의 큐를 정리한다. 정리하지 못한 서버는 등록을 남겨 다음 주기에 다시 시도한다
+    private void sweep() {
+        for (String node : nodeRepository.findExpired(System.currentTimeMillis())) {
+            if (node.equals(serverId)) {
+                continue;
+            }
+            if (notificationTransport.releaseNode(node)) {
+                nodeRepository.delete(node);
+                log.info("🧹 종료된 알림 노드 큐 정리: serverId={}", node);
+            }
+        }
+    }
+}
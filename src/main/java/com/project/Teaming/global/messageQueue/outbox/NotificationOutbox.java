@@ -0,0 +1,42 @@
+package com.project.Teaming.global.messageQueue.outbox;
+
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발행 대기 중인 알림 이벤트 (transactional outbox).
+ * 알림과 같은 트랜잭션에서 기록되고, NotificationOutboxRelay 가 발행에 성공하면 삭제된다.
+ */
+@Getter
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_claim", columnList = "claim_token"))
+@NoArgsConstructor
+public class NotificationOutbox {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;  // NotificationEvent JSON
+
+    private int attempts;  // 발행 실패 횟수
+
+    private String claimToken;  // 현재 이 행을 발행 중인 relay 의 claim 식별자
+
+    private LocalDateTime lockedUntil;  // 이 시각까지 다른 relay 가 가져가지 않음 (null 이면 즉시 발행 대상)
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public NotificationOutbox(String payload) {
+        this.payload = payload;
+    }
+}
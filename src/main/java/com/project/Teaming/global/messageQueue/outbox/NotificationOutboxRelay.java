@@ -0,0 +1,142 @@
+package com.project.Teaming.global.messageQueue.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.messageQueue.transport.NotificationTransport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * notification_outbox 에 쌓인 이벤트를 NotificationTransport(기본 RabbitMQ)로 발행한다.
+ * outbox 행은 알림을 저장한 업무 트랜잭션 안에서 기록되므로, 커밋된 알림은 빠짐없이 이 relay 를 거친다.
+ * 각 서버의 relay 가 리스(claim token + locked_until)로 행을 나눠 선점하고, 전달 경로에 기록된 뒤(RabbitMQ 는 publisher confirm) 삭제한다.
+ * 발행에 실패하면 행이 남아 backoff 후 다시 발행되므로 최소 한 번(at-least-once) 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationTransport notificationTransport;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.outbox.batch-size:100}")  // 한 번에 선점/발행할 최대 행 수
+    private int batchSize;
+
+    @Value("${notification.outbox.lease-ms:30000}")  // 선점한 행을 다른 relay 가 가져가지 못하는 시간
+    private long leaseMs;
+
+    @Value("${notification.outbox.retry-backoff-ms:1000}")  // 발행 실패 시 첫 재시도 대기 시간 (실패마다 2배)
+    private long retryBackoffMs;
+
+    @Value("${notification.outbox.max-retry-backoff-ms:60000}")
+    private long maxRetryBackoffMs;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private ExecutorService worker;
+
+    @PostConstruct
+    public void init() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    /**
+     * outbox 기록이 커밋된 직후 호출되어 바로 발행을 시작한다. 이미 발행 중이면 그 작업에 합쳐진다.
+     */
+    public void wakeUp() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);  // 종료 중. 남은 행은 다른 서버 또는 재시작 후 발행된다
+        }
+    }
+
+    // 다른 서버가 남긴 행, 실패 후 backoff 가 끝난 행을 주기적으로 확인
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            int relayed;
+            do {
+                relayed = relayOnce();
+            } while (relayed == batchSize);  // 가득 찬 묶음이면 남은 행이 더 있을 수 있으므로 이어서 발행
+        } catch (Exception e) {
+            log.error("❌ outbox relay 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayOnce() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> {
+            int count = outboxRepository.claim(token, now.plusNanos(leaseMs * 1_000_000), now, batchSize);
+            return (count == 0) ? List.<NotificationOutbox>of() : outboxRepository.findByClaimTokenOrderByIdAsc(token);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            notificationTransport.publish(toEvents(claimed));
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteByClaimToken(token));
+        } catch (Exception e) {
+            release(token, claimed);
+            log.warn("⚠️ 알림 이벤트 발행 실패, 재시도 예정: count={}, error={}", claimed.size(), e.getMessage());
+            return 0;
+        }
+        return claimed.size();
+    }
+
+    // 해석할 수 없는 행은 재시도해도 실패하므로 건너뛴다 (발행 성공 시 함께 삭제됨)
+    private List<NotificationEvent> toEvents(List<NotificationOutbox> claimed) {
+        List<NotificationEvent> events = new ArrayList<>(claimed.size());
+        for (NotificationOutbox outbox : claimed) {
+            try {
+                events.add(objectMapper.readValue(outbox.getPayload(), NotificationEvent.class));
+            } catch (IOException e) {
+                log.error("❌ outbox 이벤트 변환 실패, 폐기: id={}, error={}", outbox.getId(), e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    private void release(String token, List<NotificationOutbox> claimed) {
+        int attempts = claimed.stream().mapToInt(NotificationOutbox::getAttempts).max().orElse(0);
+        long backoff = Math.min(maxRetryBackoffMs, retryBackoffMs << Math.min(attempts, 20));
+        LocalDateTime retryAt = LocalDateTime.now().plusNanos(backoff * 1_000_000);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.release(token, retryAt));
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.Teaming.global.messageQueue.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 리스가 없거나 만료된 행을 오래된 순으로 limit 개 선점한다 (여러 서버의 relay 가 동시에 실행되어도 겹치지 않음)
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET claim_token = :token, locked_until = :lockedUntil " +
+            "WHERE locked_until IS NULL OR locked_until < :now " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    int claim(@Param("token") String token, @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    List<NotificationOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.claimToken = :token")
+    int deleteByClaimToken(@Param("token") String token);
+
+    // 발행 실패 시 retryAt 이후 다시 선점될 수 있도록 리스를 조정한다
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.attempts = o.attempts + 1, o.lockedUntil = :retryAt WHERE o.claimToken = :token")
+    int release(@Param("token") String token, @Param("retryAt") LocalDateTime retryAt);
+}
@@ -1,30 +1,117 @@
 package com.project.Teaming.global.messageQueue.publisher;
 
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.DEAD_LETTER_QUEUE_NAME;
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.PARKING_LOT_QUEUE_NAME;
+
 import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.messageQueue.transport.NotificationRouter;
+import com.project.Teaming.global.messageQueue.transport.NotificationTransport;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
-public class RabbitMQNotificationPublisher {
+public class RabbitMQNotificationPublisher implements NotificationTransport {
 
     private final RabbitTemplate rabbitTemplate;
-    private static final String EXCHANGE_NAME = "notification.exchange";
+    private final AmqpAdmin amqpAdmin;
+    private final NotificationRouter notificationRouter;
+    private static final String DIRECT_EXCHANGE_NAME = "notification.direct";
+    private static final int MAX_NOTIFICATIONS_PER_MESSAGE = 500;
+
+    @Value("${server.id}")
+    private String serverId;
+
+    @Value("${notification.publisher.confirm-timeout-ms:5000}")  // broker confirm 대기 시간
+    private long confirmTimeoutMs;
+
+    /**
+     * 수신자가 SSE 로 연결된 서버의 lane 별 큐로만 이벤트를 발행한다. (routing key = 큐 이름, 우선 lane 먼저)
+     * 여러 이벤트를 서버별로 합쳐 보내고, 모든 메시지에 대한 publisher confirm 을 받은 뒤 반환한다.
+     * 어느 서버에도 연결되지 않은 수신자의 알림은 발행하지 않는다. (DB 에는 저장되어 있어 재연결/조회 시 확인 가능)
+     * @throws org.springframework.amqp.AmqpException broker 가 거부(nack)했거나 confirm 시간이 초과된 경우
+     */
+    @Override
+    public void publish(List<NotificationEvent> events) {
+        Map<String, List<NotificationMessage>> routes = notificationRouter.route(events);
+        if (routes.isEmpty()) {
+            log.info("📭 연결된 수신자 없음, 알림 이벤트 발행 생략");
+            return;
+        }
+
+        // 같은 채널에서 모두 보낸 뒤 confirm 을 한 번에 기다린다
+        rabbitTemplate.invoke(operations -> {
+            routes.forEach((destination, messages) -> {
+                for (int from = 0; from < messages.size(); from += MAX_NOTIFICATIONS_PER_MESSAGE) {
+                    List<NotificationMessage> chunk = messages.subList(from, Math.min(from + MAX_NOTIFICATIONS_PER_MESSAGE, messages.size()));
+                    operations.convertAndSend(DIRECT_EXCHANGE_NAME, destination, NotificationEvent.published(chunk));
+                }
+            });
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        log.info("🚀 RabbitMQ 알림 이벤트 발행 완료: 큐 {}개", routes.size());
+    }
 
-    @Transactional(readOnly = true)
-    public void sendNotificationEvent(NotificationEvent event) {
-        log.info("📢 RabbitMQ 알림 이벤트 발행: {}", event.getNotificationIds());
+    /**
+     * 이 서버의 lane 별 큐(= 컨슈머 지연)와 공용 DLQ / parking lot 에 쌓인 메시지 수.
+     */
+    @Override
+    public Map<String, Long> backlog() {
+        List<String> queues = new ArrayList<>();
+        for (NotificationLane lane : NotificationLane.values()) {
+            queues.add(serverId + lane.getQueueSuffix());
+        }
+        queues.add(DEAD_LETTER_QUEUE_NAME);
+        queues.add(PARKING_LOT_QUEUE_NAME);
+        try {
+            return rabbitTemplate.execute(channel -> {
+                Map<String, Long> depths = new LinkedHashMap<>();
+                for (String queue : queues) {
+                    depths.put(queue, channel.messageCount(queue));
+                }
+                return depths;
+            });
+        } catch (Exception e) {
+            log.warn("RabbitMQ 큐 적재량 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 서버의 lane 별 큐를 삭제한다. 컨슈머가 붙어 있는 큐는 broker 가 거부하므로 살아있는 서버의 큐는 지워지지 않는다.
+     * 자기 서버에 대해서는 리스너 컨테이너가 멈춘 뒤에 호출된다. (남은 메시지는 버려지며 DB 에서 복구)
+     */
+    @Override
+    public boolean releaseNode(String node) {
+        boolean deleted = true;
+        for (NotificationLane lane : NotificationLane.values()) {
+            deleted &= deleteIfUnused(node + lane.getQueueSuffix());
+        }
+        return deleted;
+    }
 
+    private boolean deleteIfUnused(String queue) {
         try {
-            rabbitTemplate.convertAndSend(EXCHANGE_NAME, "", event);
-            log.info("🚀 RabbitMQ 메시지 발행 완료");
+            amqpAdmin.deleteQueue(queue, true, false);  // 컨슈머가 있으면 broker 가 거부한다
+            return true;
         } catch (Exception e) {
-            log.error("❌ RabbitMQ 메시지 발행 실패: {}", e.getMessage(), e);
+            log.warn("알림 큐 삭제 실패: queue={}, error={}", queue, e.getMessage());
+            return false;
         }
     }
-}
\ No newline at end of file
+}
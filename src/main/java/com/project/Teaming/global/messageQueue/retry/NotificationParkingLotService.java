@@ -0,0 +1,122 @@
+package com.project.Teaming.global.messageQueue.retry;
+
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.PARKING_LOT_QUEUE_NAME;
+
+import com.project.Teaming.global.messageQueue.dto.ParkedNotificationResponse;
+import com.project.Teaming.global.messageQueue.dto.ParkingLotReplayResponse;
+import com.project.Teaming.global.messageQueue.dto.ParkingLotResponse;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * parking lot 큐 운영 기능.
+ * 조회는 메시지를 꺼냈다가 다시 큐에 돌려놓고, 재처리는 시도 횟수를 초기화해 원래 서버 큐로 다시 보낸다.
+ * 모두 별도 채널에서 수행하므로 알림 리스너 컨테이너에는 영향이 없다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
+@Service
+@RequiredArgsConstructor
+public class NotificationParkingLotService {
+
+    private static final String DIRECT_EXCHANGE_NAME = "notification.direct";
+    private static final int MAX_LIMIT = 1000;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${notification.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    public ParkingLotResponse inspect(int limit) {
+        int size = clamp(limit);
+        return rabbitTemplate.execute(channel -> {
+            long totalCount = channel.messageCount(PARKING_LOT_QUEUE_NAME);
+            List<ParkedNotificationResponse> messages = new ArrayList<>();
+            long lastTag = -1;
+            GetResponse response;
+            while (messages.size() < size && (response = channel.basicGet(PARKING_LOT_QUEUE_NAME, false)) != null) {
+                messages.add(toResponse(response));
+                lastTag = response.getEnvelope().getDeliveryTag();
+            }
+            if (lastTag != -1) {
+                channel.basicNack(lastTag, true, true);  // 조회한 메시지는 그대로 큐에 돌려놓는다
+            }
+            return new ParkingLotResponse(totalCount, messages);
+        });
+    }
+
+    public ParkingLotReplayResponse replay(int limit) {
+        int size = clamp(limit);
+        ParkingLotReplayResponse result = rabbitTemplate.execute(channel -> {
+            List<Long> replayedTags = new ArrayList<>();
+            List<Long> skippedTags = new ArrayList<>();
+            GetResponse response;
+            while (replayedTags.size() + skippedTags.size() < size
+                    && (response = channel.basicGet(PARKING_LOT_QUEUE_NAME, false)) != null) {
+                long deliveryTag = response.getEnvelope().getDeliveryTag();
+                String originQueue = header(response.getProps(), NotificationRetryConsumer.ORIGIN_QUEUE_HEADER);
+                if (originQueue == null) {
+                    skippedTags.add(deliveryTag);
+                    continue;
+                }
+                channel.basicPublish(DIRECT_EXCHANGE_NAME, originQueue, resetAttempts(response.getProps()), response.getBody());
+                replayedTags.add(deliveryTag);
+            }
+
+            // 다시 보낸 메시지가 broker 에 확정된 뒤에만 parking lot 에서 제거한다
+            if (!replayedTags.isEmpty()) {
+                channel.waitForConfirmsOrDie(confirmTimeoutMs);
+                for (Long deliveryTag : replayedTags) {
+                    channel.basicAck(deliveryTag, false);
+                }
+            }
+            for (Long deliveryTag : skippedTags) {
+                channel.basicNack(deliveryTag, false, true);
+            }
+            return new ParkingLotReplayResponse(replayedTags.size(), skippedTags.size());
+        });
+        log.info("🔁 parking lot 재처리: replayed={}, skipped={}", result.getReplayedCount(), result.getSkippedCount());
+        return result;
+    }
+
+    private ParkedNotificationResponse toResponse(GetResponse response) {
+        AMQP.BasicProperties properties = response.getProps();
+        String attempts = header(properties, NotificationRetryConsumer.ATTEMPT_HEADER);
+        return new ParkedNotificationResponse(
+                header(properties, NotificationRetryConsumer.ORIGIN_QUEUE_HEADER),
+                (attempts == null) ? null : Integer.valueOf(attempts),
+                header(properties, NotificationRetryConsumer.PARKED_REASON_HEADER),
+                new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private AMQP.BasicProperties resetAttempts(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = (properties.getHeaders() == null) ? new HashMap<>() : new HashMap<>(properties.getHeaders());
+        headers.remove(NotificationRetryConsumer.ATTEMPT_HEADER);
+        headers.remove(NotificationRetryConsumer.PARKED_REASON_HEADER);
+        headers.remove("x-death");
+        return properties.builder().headers(headers).build();
+    }
+
+    private String header(AMQP.BasicProperties properties, String name) {
+        if (properties.getHeaders() == null) {
+            return null;
+        }
+        Object value = properties.getHeaders().get(name);
+        return (value == null) ? null : value.toString();  // 문자열 헤더는 LongString 으로 들어온다
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,136 @@
+package com.project.Teaming.global.messageQueue.retry;
+
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.DEAD_LETTER_QUEUE_NAME;
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.PARKING_LOT_QUEUE_NAME;
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.RETRY_DELAY_HEADER;
+import static com.project.Teaming.global.messageQueue.config.RabbitMQConfig.RETRY_EXCHANGE_NAME;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * notification.dlq 재처리 컨슈머.
+ * 실패한 메시지를 시도 횟수에 따라 단계별 지연 큐로 보내고, 지연이 끝나면 원래 서버 큐로 돌아가 다시 처리된다.
+ * 최대 시도 횟수를 넘기면 parking lot 큐로 옮겨 운영 API 로 확인/재처리한다.
+ * 서버 큐에서 TTL 로 만료된 메시지는 재시도하지 않고 버린다. (DB 에 저장되어 있어 재연결 시 재전송/조회로 복구)
+ */
+@Slf4j
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "amqp", matchIfMissing = true)
+@Component
+public class NotificationRetryConsumer {
+
+    public static final String ATTEMPT_HEADER = "x-notification-attempts";
+    public static final String ORIGIN_QUEUE_HEADER = "x-notification-origin-queue";
+    public static final String PARKED_REASON_HEADER = "x-notification-parked-reason";
+    private static final String FIRST_DEATH_QUEUE_HEADER = "x-first-death-queue";
+    private static final String EXPIRED_REASON = "expired";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Long> delaysMs;
+
+    @Value("${notification.retry.max-attempts:5}")  // 이 횟수만큼 재시도한 뒤에도 실패하면 parking lot 으로 이동
+    private int maxAttempts;
+
+    @Value("${notification.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    public NotificationRetryConsumer(RabbitTemplate rabbitTemplate,
+                                     @Value("${notification.retry.delays-ms:5000,30000,300000}") List<Long> delaysMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.delaysMs = delaysMs;
+    }
+
+    @RabbitListener(queues = DEAD_LETTER_QUEUE_NAME, containerFactory = "retryListenerContainerFactory")
+    public void retry(Message message, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            MessageProperties properties = message.getMessageProperties();
+            int attempts = attemptsOf(properties) + 1;
+            String originQueue = originQueueOf(properties);
+
+            if (isExpired(properties)) {
+                log.info("⌛ 만료된 알림 메시지 폐기: queue={}", originQueue);
+            } else if (originQueue == null) {
+                park(message, attempts, null, "원래 큐를 알 수 없음");
+            } else if (attempts > maxAttempts) {
+                park(message, attempts, originQueue, "최대 재시도 횟수 초과");
+            } else {
+                delay(message, attempts, originQueue);
+            }
+            channel.basicAck(deliveryTag, false);
+        } catch (Exception e) {
+            // 지연 큐/parking lot 발행 실패. DLQ 에 그대로 남겨 다시 시도한다
+            channel.basicNack(deliveryTag, false, true);
+            log.error("❌ DLQ 재처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    // 시도 횟수에 맞는 지연 단계로 보낸다. 단계보다 시도 횟수가 많으면 가장 긴 지연을 반복
+    private void delay(Message message, int attempts, String originQueue) {
+        long delayMs = delaysMs.get(Math.min(attempts, delaysMs.size()) - 1);
+        Message retryMessage = copyOf(message, attempts, originQueue)
+                .setHeader(RETRY_DELAY_HEADER, String.valueOf(delayMs))
+                .build();
+        send(RETRY_EXCHANGE_NAME, originQueue, retryMessage);  // routing key = 원래 큐 (지연 후 notification.direct 로 라우팅)
+        log.info("🔁 알림 메시지 재시도 예약: attempts={}, delayMs={}, queue={}", attempts, delayMs, originQueue);
+    }
+
+    private void park(Message message, int attempts, String originQueue, String reason) {
+        Message parkedMessage = copyOf(message, attempts, originQueue)
+                .setHeader(PARKED_REASON_HEADER, reason)
+                .build();
+        send("", PARKING_LOT_QUEUE_NAME, parkedMessage);
+        log.warn("🅿️ 알림 메시지 parking lot 이동: attempts={}, queue={}, reason={}", attempts, originQueue, reason);
+    }
+
+    private MessageBuilder copyOf(Message message, int attempts, String originQueue) {
+        MessageBuilder builder = MessageBuilder.fromClonedMessage(message)
+                .removeHeader("x-death")
+                .removeHeader(RETRY_DELAY_HEADER)
+                .setHeader(ATTEMPT_HEADER, attempts);
+        if (originQueue != null) {
+            builder.setHeader(ORIGIN_QUEUE_HEADER, originQueue);
+        }
+        return builder;
+    }
+
+    // 발행이 broker 에 확정된 뒤에만 DLQ 메시지를 ack 한다
+    private void send(String exchange, String routingKey, Message message) {
+        rabbitTemplate.invoke(operations -> {
+            operations.send(exchange, routingKey, message);
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    // 가장 최근에 dead-letter 된 사유 (x-death 는 최근 순)
+    private boolean isExpired(MessageProperties properties) {
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        return deaths != null && !deaths.isEmpty() && EXPIRED_REASON.equals(String.valueOf(deaths.get(0).get("reason")));
+    }
+
+    private int attemptsOf(MessageProperties properties) {
+        Object attempts = properties.getHeader(ATTEMPT_HEADER);
+        return (attempts == null) ? 0 : Integer.parseInt(attempts.toString());
+    }
+
+    // 재시도 이력이 있으면 기록해 둔 큐, 처음 DLQ 에 들어온 메시지는 broker 가 남긴 x-first-death-queue
+    private String originQueueOf(MessageProperties properties) {
+        Object originQueue = properties.getHeader(ORIGIN_QUEUE_HEADER);
+        if (originQueue == null) {
+            originQueue = properties.getHeader(FIRST_DEATH_QUEUE_HEADER);
+        }
+        return (originQueue == null) ? null : originQueue.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 없이 이 서버의 SSE 연결로 바로 전달한다. (notification.transport.type=in-process)
+ * 직렬화와 네트워크 왕복이 없으며, 다른 서버에 연결된 수신자에게는 전달되지 않으므로 단일 서버 배포나 로컬 개발용이다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "in-process")
+@RequiredArgsConstructor
+public class InProcessNotificationTransport implements NotificationTransport {
+
+    private final LocalNotificationDispatcher localNotificationDispatcher;
+
+    @Override
+    public void publish(List<NotificationEvent> events) {
+        // 직렬화 없이 넘기므로 발행 시각만 찍어 전달한다
+        localNotificationDispatcher.dispatch(events.stream()
+                .map(event -> (event.getNotifications() == null) ? event : NotificationEvent.published(event.getNotifications()))
+                .toList());
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.repository.EmitterRepository;
+import com.project.Teaming.global.sse.repository.NotificationRepository;
+import com.project.Teaming.global.sse.service.NotificationLatencyRecorder;
+import com.project.Teaming.global.sse.service.NotificationRenderer;
+import com.project.Teaming.global.sse.service.SseEmitterService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전달 경로와 관계없이, 이 서버에 도착한 알림 이벤트를 연결된 수신자에게 SSE 로 보낸다.
+ * 도착 시각을 알림에 붙여 두어, 소켓 flush 까지의 단계별 지연이 기록되도록 한다. (NotificationLatencyRecorder)
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalNotificationDispatcher {
+
+    private final SseEmitterService sseEmitterService;
+    private final NotificationRepository notificationRepository;
+    private final EmitterRepository emitterRepository;
+    private final NotificationRenderer notificationRenderer;
+    private final NotificationLatencyRecorder latencyRecorder;
+
+    /**
+     * 묶음 단위로 알림을 모아 (이전 버전 메시지의 DB 조회도 한 번으로) SSE 로 전달한다.
+     * 이벤트에 알림 내용이 담겨 있으면 DB 를 조회하지 않으므로 트랜잭션(JDBC 커넥션)을 잡지 않는다.
+     */
+    public void dispatch(List<NotificationEvent> events) {
+        List<NotificationMessage> notifications = new ArrayList<>();
+        List<Long> legacyIds = new ArrayList<>();
+        long receivedAt = System.currentTimeMillis();
+        for (NotificationEvent event : events) {
+            collectLocalNotifications(event, receivedAt, notifications, legacyIds);
+        }
+        notifications.addAll(toMessages(legacyIds));
+
+        if (!notifications.isEmpty()) {
+            sseEmitterService.sendNotifications(groupByRecipient(notifications));
+        }
+    }
+
+    // 이 서버에 연결된 수신자의 알림만 골라낸다. 내용이 없는 이전 버전 메시지는 id 만 모아 두었다가 한 번에 조회
+    private void collectLocalNotifications(NotificationEvent event, long receivedAt,
+                                           List<NotificationMessage> notifications, List<Long> legacyIds) {
+        if (event.getNotifications() == null) {
+            if (event.getNotificationIds() != null) {
+                legacyIds.addAll(event.getNotificationIds());
+            }
+            return;
+        }
+        for (NotificationMessage notification : event.getNotifications()) {
+            if (!emitterRepository.existsByUserId(notification.getUserId())) {
+                continue;
+            }
+            if (notification.hasPayload()) {
+                notification.setTrace(latencyRecorder.recordReceived(notification, event.getPublishedAt(), receivedAt));
+                notifications.add(notification);
+            } else {
+                legacyIds.add(notification.getNotificationId());
+            }
+        }
+    }
+
+    private List<NotificationMessage> toMessages(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return List.of();
+        }
+        return notificationRenderer.toMessages(notificationRepository.findAllById(notificationIds));
+    }
+
+    // 수신자별로 모아 같은 유저의 알림이 연속되도록 한다 (유저 내 순서는 유지)
+    private List<NotificationMessage> groupByRecipient(List<NotificationMessage> notifications) {
+        Map<Long, List<NotificationMessage>> byRecipient = new LinkedHashMap<>();
+        notifications.forEach(notification ->
+                byRecipient.computeIfAbsent(notification.getUserId(), key -> new ArrayList<>()).add(notification));
+        List<NotificationMessage> grouped = new ArrayList<>(notifications.size());
+        byRecipient.values().forEach(grouped::addAll);
+        return grouped;
+    }
+}
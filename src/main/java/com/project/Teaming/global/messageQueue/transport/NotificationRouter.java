@@ -0,0 +1,53 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import com.project.Teaming.global.sse.service.PresenceService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버를 거치는 전달 경로(amqp, redis-stream)에서 알림을 목적지별로 나눈다.
+ * 목적지는 수신자가 연결된 서버의 lane 별 큐(stream) 이름이다. (서버 id + NotificationLane 접미사)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRouter {
+
+    private final PresenceService presenceService;
+
+    /**
+     * 이벤트들의 알림을 합쳐 목적지별로 나눈다. 우선 lane 목적지가 먼저 오며, 목적지 내에서는 발행 순서를 유지한다.
+     * 어느 서버에도 연결되지 않은 수신자의 알림은 제외된다. (DB 에는 저장되어 있어 재연결/조회 시 확인 가능)
+     */
+    public Map<String, List<NotificationMessage>> route(List<NotificationEvent> events) {
+        List<NotificationMessage> notifications = events.stream()
+                .filter(event -> event.getNotifications() != null)
+                .flatMap(event -> event.getNotifications().stream())
+                .toList();
+        Map<String, List<NotificationMessage>> routes = new LinkedHashMap<>();
+        if (notifications.isEmpty()) {
+            return routes;
+        }
+
+        Map<Long, List<String>> servers = presenceService.findServers(notifications.stream()
+                .map(NotificationMessage::getUserId)
+                .distinct()
+                .toList());
+        Map<String, List<NotificationMessage>> normalRoutes = new LinkedHashMap<>();
+        for (NotificationMessage notification : notifications) {
+            NotificationLane lane = NotificationLane.fromTitle(notification.getType());
+            Map<String, List<NotificationMessage>> laneRoutes = (lane == NotificationLane.PRIORITY) ? routes : normalRoutes;
+            for (String serverId : servers.getOrDefault(notification.getUserId(), List.of())) {
+                laneRoutes.computeIfAbsent(serverId + lane.getQueueSuffix(), key -> new ArrayList<>()).add(notification);
+            }
+        }
+        routes.putAll(normalRoutes);
+        return routes;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장된 알림 이벤트를 수신자가 SSE 로 연결된 서버까지 전달하는 경로.
+ * notification.transport.type 으로 구현을 선택한다. (amqp: 기본값, redis-stream, in-process)
+ * 수신 측 구현은 전달받은 이벤트를 LocalNotificationDispatcher 로 넘긴다.
+ */
+public interface NotificationTransport {
+
+    /**
+     * 이벤트를 전달하고, 전달 경로에 기록이 끝난 뒤 반환한다. 실패하면 예외를 던지며 outbox relay 가 다시 시도한다.
+     */
+    void publish(List<NotificationEvent> events);
+
+    /**
+     * 이 서버 앞에 쌓여 아직 처리되지 않은 메시지 수 (큐/stream 이름 → 건수). 운영 통계용이며, 조회할 수 없으면 비워서 반환한다.
+     */
+    default Map<String, Long> backlog() {
+        return Map.of();
+    }
+
+    /**
+     * serverId 앞으로 만들어 둔 전달 자원(큐/stream)을 정리한다.
+     * NotificationNodeLifecycle 이 하트비트가 끊긴 서버와, 정상 종료하는 자기 서버에 대해 호출한다.
+     * @return 모두 정리했으면 true. false 면 서버 등록을 남겨 다음 주기에 다시 시도한다
+     */
+    default boolean releaseNode(String serverId) {
+        return true;
+    }
+}
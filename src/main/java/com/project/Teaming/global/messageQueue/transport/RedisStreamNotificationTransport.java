@@ -0,0 +1,194 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Streams 로 수신자가 연결된 서버에 전달한다. (notification.transport.type=redis-stream, Redis db 3번)
+ * 서버마다 lane 별 stream(notification:stream:{server.id}{lane 접미사}) 을 두고, 서버는 자기 stream 만 consumer group 으로 읽는다.
+ * stream 마다 한 스레드가 순서대로 읽어 전달한 뒤 ack 하므로 lane 내 발행 순서가 유지되고, 우선 lane 은 일반 lane 의 적체에 밀리지 않는다.
+ * 종료된 서버의 stream 은 NotificationNodeLifecycle 이 releaseNode 로 삭제하고, 놓친 stream 도 갱신이 없으면 key TTL 로 만료된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.transport.type", havingValue = "redis-stream")
+public class RedisStreamNotificationTransport implements NotificationTransport {
+
+    private static final String STREAM_KEY = "notification:stream:";
+    private static final String GROUP = "notification";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final int MAX_NOTIFICATIONS_PER_MESSAGE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRouter notificationRouter;
+    private final LocalNotificationDispatcher localNotificationDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${server.id}")
+    private String serverId;
+
+    @Value("${notification.transport.redis-stream.max-length:10000}")  // stream 당 보관할 최대 메시지 수 (근사치로 잘라냄)
+    private long maxLength;
+
+    @Value("${notification.transport.redis-stream.batch-size:50}")  // 한 번에 읽어올 최대 메시지 수
+    private int batchSize;
+
+    @Value("${notification.transport.redis-stream.expires-ms:600000}")  // 소유 서버가 갱신하지 않은 stream 은 이 시간 뒤 삭제 (amqp 의 x-expires)
+    private long expiresMs;
+
+    @Value("${notification.transport.redis-stream.poll-timeout-ms:1000}")  // 새 메시지를 기다리는 최대 시간 (XREADGROUP BLOCK)
+    private long pollTimeoutMs;
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public RedisStreamNotificationTransport(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate,
+                                            NotificationRouter notificationRouter,
+                                            LocalNotificationDispatcher localNotificationDispatcher,
+                                            ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRouter = notificationRouter;
+        this.localNotificationDispatcher = localNotificationDispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .batchSize(batchSize)
+                        .pollTimeout(Duration.ofMillis(pollTimeoutMs))
+                        .errorHandler(e -> log.error("❌ Redis stream 알림 수신 실패: {}", e.getMessage(), e))
+                        .build();
+        container = StreamMessageListenerContainer.create(redisTemplate.getConnectionFactory(), options);
+        for (String key : streamKeysOf(serverId)) {
+            try {
+                redisTemplate.opsForStream().createGroup(key, ReadOffset.latest(), GROUP);  // stream 이 없으면 함께 생성
+            } catch (Exception e) {
+                log.debug("Redis stream consumer group 이미 존재: key={}", key);
+            }
+            redisTemplate.expire(key, Duration.ofMillis(expiresMs));
+            container.receive(Consumer.from(GROUP, serverId), StreamOffset.create(key, ReadOffset.lastConsumed()), this::receive);
+        }
+        container.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (container != null && container.isRunning()) {
+            container.stop();
+        }
+    }
+
+    // 살아있는 동안 자기 stream 의 만료 시각을 미룬다
+    @Scheduled(fixedDelayString = "${notification.node.heartbeat-ms:30000}")
+    public void refreshExpiry() {
+        streamKeysOf(serverId).forEach(key -> redisTemplate.expire(key, Duration.ofMillis(expiresMs)));
+    }
+
+    @Override
+    public void publish(List<NotificationEvent> events) {
+        Map<String, List<NotificationMessage>> routes = notificationRouter.route(events);
+        if (routes.isEmpty()) {
+            return;
+        }
+        routes.forEach((destination, messages) -> {
+            String key = STREAM_KEY + destination;
+            for (int from = 0; from < messages.size(); from += MAX_NOTIFICATIONS_PER_MESSAGE) {
+                List<NotificationMessage> chunk = messages.subList(from, Math.min(from + MAX_NOTIFICATIONS_PER_MESSAGE, messages.size()));
+                redisTemplate.opsForStream().add(StreamRecords.string(Map.of(PAYLOAD_FIELD, encode(NotificationEvent.published(chunk)))).withStreamKey(key));
+            }
+            redisTemplate.opsForStream().trim(key, maxLength, true);
+            // 정리된 서버 앞으로 늦게 발행되어 다시 생긴 stream 도 만료되도록 한다 (살아있는 서버는 refreshExpiry 로 갱신)
+            redisTemplate.expire(key, Duration.ofMillis(expiresMs));
+        });
+        log.info("🚀 Redis stream 알림 이벤트 발행 완료: stream {}개", routes.size());
+    }
+
+    /**
+     * 이 서버의 lane 별 stream 에서 읽어 갔지만 아직 ack 하지 않은 메시지 수.
+     */
+    @Override
+    public Map<String, Long> backlog() {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        for (String key : streamKeysOf(serverId)) {
+            try {
+                PendingMessagesSummary summary = redisTemplate.opsForStream().pending(key, GROUP);
+                pending.put(key, (summary == null) ? 0L : summary.getTotalPendingMessages());
+            } catch (Exception e) {
+                log.warn("Redis stream 적재량 조회 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 서버의 lane 별 stream 을 consumer group 과 함께 삭제한다.
+     * 자기 서버에 대해서는 읽기를 먼저 멈춘 뒤 삭제한다. (남은 메시지는 버려지며 DB 에서 복구)
+     */
+    @Override
+    public boolean releaseNode(String node) {
+        if (node.equals(serverId)) {
+            shutdown();
+        }
+        try {
+            redisTemplate.delete(streamKeysOf(node));
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis stream 삭제 실패: serverId={}, error={}", node, e.getMessage());
+            return false;
+        }
+    }
+
+    private List<String> streamKeysOf(String node) {
+        List<String> keys = new ArrayList<>();
+        for (NotificationLane lane : NotificationLane.values()) {
+            keys.add(STREAM_KEY + node + lane.getQueueSuffix());
+        }
+        return keys;
+    }
+
+    // 전달에 실패해도 ack 한다. 놓친 알림은 재연결 시 Last-Event-ID 이후 재전송으로 복구된다
+    private void receive(MapRecord<String, String, String> record) {
+        try {
+            NotificationEvent event = objectMapper.readValue(record.getValue().get(PAYLOAD_FIELD), NotificationEvent.class);
+            localNotificationDispatcher.dispatch(List.of(event));
+        } catch (Exception e) {
+            log.error("❌ Redis stream 알림 전달 실패: id={}, error={}", record.getId(), e.getMessage(), e);
+        } finally {
+            redisTemplate.opsForStream().acknowledge(record.getStream(), GROUP, record.getId());
+        }
+    }
+
+    private String encode(NotificationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 직렬화 실패", e);
+        }
+    }
+}
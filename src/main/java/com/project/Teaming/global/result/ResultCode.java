@@ -79,7 +79,14 @@ public enum ResultCode {
     // Notification
     GET_NOTIFICATIONS(200, "N001", "전체 알림 조회 완료"),
     DELETE_NOTIFICATION(200, "N002", "알림 삭제 완료"),
-    READ_NOTIFICATIONS(200, "N003", "알림 읽음 처리 완료");
+    READ_NOTIFICATIONS(200, "N003", "알림 읽음 처리 완료"),
+    GET_NOTIFICATIONS_BY_CURSOR(200, "N004", "알림 내역 커서 조회 완료"),
+    GET_UNREAD_NOTIFICATION_COUNT(200, "N005", "읽지 않은 알림 수 조회 완료"),
+    GET_PARKED_NOTIFICATIONS(200, "N006", "재시도 실패 알림 메시지 조회 완료"),
+    REPLAY_PARKED_NOTIFICATIONS(200, "N007", "재시도 실패 알림 메시지 재처리 완료"),
+    START_NOTIFICATION_JOB(200, "N008", "알림 일괄 처리 작업 시작"),
+    GET_NOTIFICATION_JOB(200, "N009", "알림 일괄 처리 작업 조회 완료"),
+    GET_NOTIFICATION_STATS(200, "N010", "알림 전달 통계 조회 완료");
 
     private int status;
     private final String code;
@@ -0,0 +1,10 @@
+package com.project.Teaming.global.sse.connection;
+
+import com.project.Teaming.global.sse.entity.NotificationLane;
+
+/**
+ * 알림 한 건의 전달 단계별 시각 (epoch ms). 소켓 flush 시점에 단계별 지연을 기록하는 데 쓰인다.
+ * @param publishedAt 발행 시각을 담지 않은 이전 버전 이벤트면 null
+ */
+public record DeliveryTrace(NotificationLane lane, long createdAt, Long publishedAt, long receivedAt) {
+}
@@ -0,0 +1,28 @@
+package com.project.Teaming.global.sse.connection;
+
+/**
+ * 연결 전송 큐에 프레임을 적재한 결과
+ */
+public enum OfferResult {
+
+    QUEUED(true, false),
+    QUEUED_DROPPED_OLDEST(true, true),  // 적재했지만 가장 오래된 프레임 하나를 버림
+    DROPPED(false, true),
+    CLOSED(false, false);
+
+    private final boolean queued;
+    private final boolean dropped;
+
+    OfferResult(boolean queued, boolean dropped) {
+        this.queued = queued;
+        this.dropped = dropped;
+    }
+
+    public boolean isQueued() {
+        return queued;
+    }
+
+    public boolean isDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.Teaming.global.sse.connection;
+
+/**
+ * 연결별 전송 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OverflowPolicy {
+
+    DROP_OLDEST,  // 가장 오래된 이벤트를 버리고 새 이벤트를 적재
+    DROP_NEWEST,  // 새 이벤트를 버림
+    CLOSE         // 느린 클라이언트로 보고 연결을 종료 (클라이언트는 재연결 후 알림 내역을 다시 조회)
+}
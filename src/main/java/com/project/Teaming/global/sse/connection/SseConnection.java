@@ -0,0 +1,128 @@
+package com.project.Teaming.global.sse.connection;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 유저의 SSE 연결 하나(탭, 기기 단위)와 그 연결 전용 전송 큐.
+ * 이벤트 발행 측은 큐에 적재만 하고 실제 소켓 쓰기는 별도 스레드가 수행하므로,
+ * 느린 클라이언트가 RabbitMQ 리스너 스레드를 붙잡지 않는다.
+ */
+@Slf4j
+@Getter
+public class SseConnection {
+
+    private final long userId;
+    private final long connectionId;
+    private final SseEmitter emitter;
+    private final OverflowPolicy overflowPolicy;
+
+    @Getter(AccessLevel.NONE)
+    private final BlockingQueue<SseFrame> queue;
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private volatile boolean closed = false;
+    private volatile long sendStartedAt = 0;  // 진행 중인 소켓 쓰기의 시작 시각(nanoTime). 0 이면 쓰는 중이 아님
+
+    public SseConnection(long userId, long connectionId, SseEmitter emitter, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this.userId = userId;
+        this.connectionId = connectionId;
+        this.emitter = emitter;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 전송 큐에 프레임을 적재한다. 큐가 가득 찬 경우 정책에 따라 처리한다.
+     */
+    public OfferResult offer(SseFrame frame) {
+        if (closed) {
+            return OfferResult.CLOSED;
+        }
+        if (queue.offer(frame)) {
+            return OfferResult.QUEUED;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                queue.poll();
+                return queue.offer(frame) ? OfferResult.QUEUED_DROPPED_OLDEST : OfferResult.DROPPED;
+            case CLOSE:
+                log.warn("SSE 전송 큐 초과로 연결 종료: userId={}, connectionId={}", userId, connectionId);
+                close();
+                return OfferResult.DROPPED;
+            default:
+                return OfferResult.DROPPED;
+        }
+    }
+
+    public SseFrame poll() {
+        return queue.poll();
+    }
+
+    public boolean hasPendingFrames() {
+        return !queue.isEmpty();
+    }
+
+    public int pendingFrames() {
+        return queue.size();
+    }
+
+    /**
+     * 한 연결에 대해 flush 작업이 하나만 예약되도록 권한을 획득한다.
+     */
+    public boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public void finishDrain() {
+        draining.set(false);
+    }
+
+    public void markSendStarted() {
+        sendStartedAt = System.nanoTime();
+    }
+
+    public void markSendFinished() {
+        sendStartedAt = 0;
+    }
+
+    /**
+     * 진행 중인 소켓 쓰기가 주어진 시간보다 오래 걸리고 있는지
+     */
+    public boolean isSendingLongerThan(long nanos) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && System.nanoTime() - startedAt > nanos;
+    }
+
+    public void close() {
+        if (closed) {
+            return;
+        }
+        abandon();
+        completeEmitter();
+    }
+
+    /**
+     * 더 이상 프레임을 받지 않도록 닫기만 한다. emitter 는 쓰기 중에 잠겨 있으므로
+     * 진행 중인 쓰기를 기다리지 않아야 할 때 사용하고, 종료는 쓰기를 마친 스레드가 completeEmitter 로 한다.
+     */
+    public void abandon() {
+        closed = true;
+        queue.clear();
+    }
+
+    public void completeEmitter() {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE emitter 종료 중 오류: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+}
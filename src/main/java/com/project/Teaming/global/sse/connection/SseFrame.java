@@ -0,0 +1,45 @@
+package com.project.Teaming.global.sse.connection;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결 큐에 적재되는 SSE 이벤트 한 건.
+ * SseEventBuilder 는 build() 호출 시 내부 상태가 바뀌어 여러 연결에서 재사용할 수 없으므로,
+ * 불변 프레임으로 보관하고 전송 시점에 연결마다 빌더를 만든다.
+ * 알림 프레임의 id 는 알림 id 이며, 재연결 시 Last-Event-ID 로 돌아온다.
+ */
+@Getter
+@AllArgsConstructor
+public class SseFrame {
+
+    private final String id;
+    private final String name;
+    private final String data;
+    private final Long reconnectTimeMs;  // 클라이언트의 재연결 대기 시간(retry) 변경이 필요할 때만 지정
+    private final DeliveryTrace trace;  // 전달 지연을 기록할 알림 프레임에만 지정
+
+    public SseFrame(String id, String name, String data) {
+        this(id, name, data, null, null);
+    }
+
+    public SseFrame(String id, String name, String data, Long reconnectTimeMs) {
+        this(id, name, data, reconnectTimeMs, null);
+    }
+
+    public SseFrame withTrace(DeliveryTrace trace) {
+        return new SseFrame(id, name, data, reconnectTimeMs, trace);
+    }
+
+    public SseEmitter.SseEventBuilder toEvent() {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (id != null) {
+            event.id(id);  // id 가 없는 이벤트는 클라이언트의 Last-Event-ID 를 바꾸지 않는다
+        }
+        if (reconnectTimeMs != null) {
+            event.reconnectTime(reconnectTimeMs);
+        }
+        return event.name(name).data(data);
+    }
+}
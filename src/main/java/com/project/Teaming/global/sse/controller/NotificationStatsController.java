@@ -0,0 +1,31 @@
+package com.project.Teaming.global.sse.controller;
+
+import com.project.Teaming.global.result.ResultCode;
+import com.project.Teaming.global.result.ResultDetailResponse;
+import com.project.Teaming.global.sse.dto.NotificationStatsResponse;
+import com.project.Teaming.global.sse.service.NotificationStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 알림 전달 통계 운영 API. /admin/** 규칙으로 ROLE_ADMIN 만 접근한다. (SecurityConfig, JwtAuthFilter 참고)
+ */
+@RestController
+@RequestMapping("/admin/notifications/stats")
+@RequiredArgsConstructor
+@Tag(name = "알림 운영", description = "알림 전달 상태 운영 API")
+public class NotificationStatsController {
+
+    private final NotificationStatsService notificationStatsService;
+
+    @GetMapping
+    @Operation(summary = "알림 전달 통계 조회", description = "요청을 받은 서버의 SSE 연결 수, 유저별 연결 분포, 전송 대기/버려진 프레임 수, 전달 경로(큐/stream) 적재량을 조회한다. " +
+            "관리자(ROLE_ADMIN)만 호출할 수 있으며, security.admin-emails 에 이메일을 등록해 권한을 받는다.")
+    public ResultDetailResponse<NotificationStatsResponse> getStats() {
+        return new ResultDetailResponse<>(ResultCode.GET_NOTIFICATION_STATS, notificationStatsService.getStats());
+    }
+}
@@ -4,6 +4,8 @@ import com.project.Teaming.global.result.ResultCode;
 import com.project.Teaming.global.result.ResultDetailResponse;
 import com.project.Teaming.global.result.ResultListResponse;
 import com.project.Teaming.global.sse.dto.EventPayload;
+import com.project.Teaming.global.sse.dto.NotificationCursorResponse;
+import com.project.Teaming.global.sse.dto.NotificationJobResponse;
 import com.project.Teaming.global.sse.dto.NotificationRequestDto;
 import com.project.Teaming.global.sse.dto.NotificationResponseDto;
 import com.project.Teaming.global.sse.service.NotificationService;
@@ -12,6 +14,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -19,7 +24,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -33,9 +40,14 @@ public class SseController {
     private final NotificationService notificationService;
 
     @GetMapping(value = "/subscribe", produces = "text/event-stream")
-    @Operation(summary = "알림 이벤트 구독", description = "클라이언트의 이벤트 구독을 수락하는 초기 SSE 연결 요청으로 연결을 함으로써 서버에서 클라이언트로 이벤트를 보낼 수 있게 된다.")
-    public SseEmitter subscribe() {
-        return sseEmitterService.subscribe();
+    @Operation(summary = "알림 이벤트 구독", description = "클라이언트의 이벤트 구독을 수락하는 초기 SSE 연결 요청으로 연결을 함으로써 서버에서 클라이언트로 이벤트를 보낼 수 있게 된다. 재연결 시 Last-Event-ID 이후 놓친 알림을 다시 보내며, 이미 받은 알림이 섞일 수 있으므로 클라이언트는 이벤트 id 로 중복을 거른다. 서버의 연결 수가 상한에 도달했거나 종료 중이면 503 과 Retry-After 를 반환한다.")
+    public ResponseEntity<SseEmitter> subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (!sseEmitterService.tryAdmit()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(sseEmitterService.retryAfterSeconds()))
+                    .build();
+        }
+        return ResponseEntity.ok(sseEmitterService.subscribe(lastEventId));
     }
 
     @PostMapping("/send")
@@ -50,6 +62,23 @@ public class SseController {
         return new ResultListResponse<>(ResultCode.GET_NOTIFICATIONS, list);
     }
 
+    @GetMapping("/notifications/cursor")
+    @Operation(summary = "알림 내역 커서 조회", description = "로그인 한 사용자가 수신한 알림 내역을 최신순으로 커서 기반 조회한다. 카테고리, 타입, 읽지 않은 알림만 필터링할 수 있다.")
+    public ResultDetailResponse<NotificationCursorResponse> getNotificationsByCursor(@RequestParam(required = false) String cursor, // 커서
+                                                                                    @RequestParam(defaultValue = "20") int size,
+                                                                                    @RequestParam(required = false) String category,
+                                                                                    @RequestParam(required = false) String type,
+                                                                                    @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        NotificationCursorResponse response = notificationService.getNotificationsByCursor(cursor, size, category, type, unreadOnly);
+        return new ResultDetailResponse<>(ResultCode.GET_NOTIFICATIONS_BY_CURSOR, response);
+    }
+
+    @GetMapping("/notifications/unread-count")
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "로그인 한 사용자의 읽지 않은 알림 수를 조회한다. 같은 값이 SSE 알림 이벤트의 unreadCount 로도 전달된다.")
+    public ResultDetailResponse<Long> getUnreadCount() {
+        return new ResultDetailResponse<>(ResultCode.GET_UNREAD_NOTIFICATION_COUNT, notificationService.getUnreadCount());
+    }
+
     @DeleteMapping("/notifications/{notificationId}")
     @Operation(summary = "알림 삭제", description = "특정 알림을 삭제한다.")
     public ResultDetailResponse<Void> deleteNotification(@PathVariable Long notificationId) {
@@ -70,4 +99,22 @@ public class SseController {
         int deletedCount = notificationService.deleteNotifications(dto);
         return new ResultDetailResponse<>(ResultCode.READ_NOTIFICATIONS, deletedCount + "개의 알림이 삭제되었습니다.");
     }
+
+    @PutMapping("/notifications/all")
+    @Operation(summary = "모든 알림 읽음 처리", description = "로그인 한 사용자의 모든 알림을 백그라운드에서 읽음 처리한다. 작업 id 를 바로 반환하며, 진행 상황은 작업 조회 API 로 확인한다.")
+    public ResultDetailResponse<NotificationJobResponse> readAllNotifications() {
+        return new ResultDetailResponse<>(ResultCode.START_NOTIFICATION_JOB, notificationService.markAllAsRead());
+    }
+
+    @DeleteMapping("/notifications/read")
+    @Operation(summary = "읽은 알림 모두 삭제", description = "로그인 한 사용자의 읽은 알림을 백그라운드에서 모두 삭제한다. 작업 id 를 바로 반환하며, 진행 상황은 작업 조회 API 로 확인한다.")
+    public ResultDetailResponse<NotificationJobResponse> deleteAllReadNotifications() {
+        return new ResultDetailResponse<>(ResultCode.START_NOTIFICATION_JOB, notificationService.deleteAllRead());
+    }
+
+    @GetMapping("/notifications/jobs/{jobId}")
+    @Operation(summary = "알림 일괄 처리 작업 조회", description = "모든 알림 읽음 처리 / 읽은 알림 모두 삭제 작업의 상태와 처리된 알림 수를 조회한다.")
+    public ResultDetailResponse<NotificationJobResponse> getNotificationJob(@PathVariable String jobId) {
+        return new ResultDetailResponse<>(ResultCode.GET_NOTIFICATION_JOB, notificationService.getJob(jobId));
+    }
 }
@@ -0,0 +1,19 @@
+package com.project.Teaming.global.sse.dto;
+
+import com.project.Teaming.global.sse.entity.BroadcastAudience;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저가 받을 수 있는 팀 브로드캐스트 대상. 팀에 합류한 뒤 생성된, 대상 역할이 맞는 알림만 보인다.
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastMembership {
+    private Long userId;
+    private BroadcastAudience audience;
+    private Long teamId;
+    private String role;  // 팀 안에서의 역할 (ProjectRole/MentoringAuthority 이름)
+    private LocalDateTime joinedAt;  // 수락일 (없으면 시점 제한 없음)
+}
@@ -2,17 +2,20 @@ package com.project.Teaming.global.sse.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"userId", "unreadCount", "createdAt"})  // 수신자별 필드를 앞에 두어 SseFrameEncoder 가 공통 부분을 재사용한다
 @Data
 @NoArgsConstructor
 public class EventWithTeamPayload {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Long userId;
+    private Long unreadCount;  // 수신자의 읽지 않은 알림 수 (알 수 없으면 null)
     private String type;
     private String category;
     @JsonFormat(shape = JsonFormat.Shape.STRING)
@@ -22,8 +25,9 @@ public class EventWithTeamPayload {
     private boolean isRead;
 
     @Builder
-    public EventWithTeamPayload(Long userId, String type, String category, Long teamId, String createdAt, String message, boolean isRead) {
+    public EventWithTeamPayload(Long userId, Long unreadCount, String type, String category, Long teamId, String createdAt, String message, boolean isRead) {
         this.userId = userId;
+        this.unreadCount = unreadCount;
         this.type = type;
         this.category = category;
         this.teamId = teamId;
@@ -0,0 +1,25 @@
+package com.project.Teaming.global.sse.dto;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 알림 내역 커서 조회 응답. 커서는 (createdAt, id) 복합 키라 문자열로 내려준다.
+ */
+@Data
+public class NotificationCursorResponse {
+    private List<NotificationResponseDto> content;    // 데이터 리스트
+    private String nextCursor;   // 다음 커서 값
+    private int pageSize;      // 페이지 크기
+    private boolean isLast;    // 마지막 페이지 여부
+
+    public NotificationCursorResponse() {
+    }
+
+    public NotificationCursorResponse(List<NotificationResponseDto> content, String nextCursor, int pageSize, boolean isLast) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.pageSize = pageSize;
+        this.isLast = isLast;
+    }
+}
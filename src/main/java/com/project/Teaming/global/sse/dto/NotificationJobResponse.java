@@ -0,0 +1,18 @@
+package com.project.Teaming.global.sse.dto;
+
+import com.project.Teaming.global.sse.entity.NotificationJobStatus;
+import com.project.Teaming.global.sse.entity.NotificationJobType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 알림 일괄 처리 작업 상태. jobId 로 진행 상황을 다시 조회할 수 있다.
+ */
+@Data
+@AllArgsConstructor
+public class NotificationJobResponse {
+    private String jobId;
+    private NotificationJobType type;
+    private NotificationJobStatus status;
+    private long processed;   // 지금까지 처리된 알림 수
+}
@@ -1,7 +1,9 @@
 package com.project.Teaming.global.sse.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.project.Teaming.global.sse.entity.Notification;
+import com.project.Teaming.global.sse.entity.NotificationType;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
@@ -24,6 +26,42 @@ public class NotificationResponseDto {
     private Long teamId;
     private boolean isRead;
     private String createdAt;
+    @JsonIgnore
+    private LocalDateTime createdDateTime;  // 다음 커서 생성용 원본 시각
+    @JsonIgnore
+    private NotificationType template;  // 템플릿 기반 알림이면 렌더링 전 정보
+    @JsonIgnore
+    private Long actorId;
+    @JsonIgnore
+    private Integer param;
+
+    /**
+     * 커서 조회 시 엔티티를 로딩하지 않고 바로 매핑하기 위한 프로젝션 생성자
+     */
+    public NotificationResponseDto(Long notificationId, Long userId, String message, String type, String category,
+                                   Long teamId, boolean isRead, LocalDateTime createdAt) {
+        this.notificationId = notificationId;
+        this.userId = userId;
+        this.message = message;
+        this.type = type;
+        this.category = category;
+        this.teamId = teamId;
+        this.isRead = isRead;
+        this.createdAt = getFormattedDate(createdAt);
+        this.createdDateTime = createdAt;
+    }
+
+    /**
+     * 템플릿 기반 알림까지 함께 조회하는 프로젝션 생성자. 메시지, 유형, 카테고리는 NotificationRenderer 가 채운다.
+     */
+    public NotificationResponseDto(Long notificationId, Long userId, String message, String type, String category,
+                                   Long teamId, boolean isRead, LocalDateTime createdAt,
+                                   NotificationType template, Long actorId, Integer param) {
+        this(notificationId, userId, message, type, category, teamId, isRead, createdAt);
+        this.template = template;
+        this.actorId = actorId;
+        this.param = param;
+    }
 
     public static NotificationResponseDto from(Notification notification) {
         NotificationResponseDto dto = new NotificationResponseDto();
@@ -35,6 +73,10 @@ public class NotificationResponseDto {
         dto.setTeamId(notification.getTeamId());
         dto.setRead(notification.isRead());
         dto.setCreatedAt(dto.getFormattedDate(notification.getCreatedAt()));
+        dto.setCreatedDateTime(notification.getCreatedAt());
+        dto.setTemplate(notification.getTemplate());
+        dto.setActorId(notification.getActorId());
+        dto.setParam(notification.getParam());
         return dto;
     }
 
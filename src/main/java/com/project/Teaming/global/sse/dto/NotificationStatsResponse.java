@@ -0,0 +1,25 @@
+package com.project.Teaming.global.sse.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 알림 전달 경로의 노드별 현재 상태. 누적 값은 서버 기동 이후 기준이다.
+ */
+@Data
+@AllArgsConstructor
+public class NotificationStatsResponse {
+    private String serverId;
+    private String transport;                       // notification.transport.type
+    private int connections;                        // 열려 있는 SSE 연결 수
+    private int connectedUsers;                     // 연결된 유저 수
+    private Map<Integer, Long> usersByConnectionCount;  // 유저당 연결 수 → 유저 수
+    private int maxConnectionsPerUser;              // 한 유저의 최대 연결 수
+    private long pendingFrames;                     // 소켓 전송을 기다리는 프레임 수
+    private long droppedFrames;                     // 전송 큐 초과로 버려진 프레임 수 (누적)
+    private long rejectedConnections;               // 거절된 구독 요청 수 (누적)
+    private long outboxBacklog;                     // 아직 발행되지 않은 outbox 이벤트 수 (전체 서버 공용)
+    private Map<String, Long> transportBacklog;     // 큐/stream 별 처리 대기 메시지 수 (컨슈머 지연, DLQ 포함)
+    private Map<String, Integer> notificationExecutor;  // notificationExecutor 스레드 풀 상태
+}
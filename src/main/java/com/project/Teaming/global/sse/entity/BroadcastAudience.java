@@ -0,0 +1,10 @@
+package com.project.Teaming.global.sse.entity;
+
+/**
+ * 브로드캐스트 알림의 수신 대상
+ */
+public enum BroadcastAudience {
+    ALL,              // 전체 유저
+    PROJECT_TEAM,     // 프로젝트 팀의 수락된 팀원
+    MENTORING_TEAM    // 멘토링 팀의 수락된 팀원
+}
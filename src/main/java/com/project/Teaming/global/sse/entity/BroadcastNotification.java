@@ -0,0 +1,57 @@
+package com.project.Teaming.global.sse.entity;
+
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팀 전체/전체 유저 대상 알림. 수신자마다 행을 만들지 않고 메시지 한 행과 수신 대상만 저장하며,
+ * 조회 시점에 유저의 팀 참여 정보로 대상 여부를 판단해 개인 알림과 합친다.
+ * 팀 안의 특정 역할에게만 보내는 알림은 targetRole 로 대상을 좁힌다. (예: 멘토링 내보내기 알림은 리더를 제외한 크루만)
+ * 유저별 읽음/삭제 상태는 처리한 유저만 BroadcastNotificationState 에 기록한다.
+ */
+@Entity
+@Table(name = "broadcast_notification",
+        indexes = @Index(name = "idx_broadcast_audience_created", columnList = "audience, team_id, created_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BroadcastNotification {
+    @Id
+    @Tsid
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private BroadcastAudience audience;
+
+    private Long teamId;  // 팀 대상이면 팀 id, 전체 대상이면 null
+
+    private String targetRole;  // 팀 안에서 대상 역할 (ProjectRole/MentoringAuthority 이름), 팀원 전체면 null
+
+    private String message;
+
+    private String type;  // 알림 유형
+    private String category;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public BroadcastNotification(BroadcastAudience audience, Long teamId, String message, NotificationType type) {
+        this(audience, teamId, null, message, type);
+    }
+
+    public BroadcastNotification(BroadcastAudience audience, Long teamId, String targetRole, String message, NotificationType type) {
+        this.audience = audience;
+        this.teamId = teamId;
+        this.targetRole = targetRole;
+        this.message = message;
+        this.type = type.getTitle();
+        this.category = type.getCategory();
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.Teaming.global.sse.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브로드캐스트 알림의 유저별 상태. 읽거나 삭제한 유저만 행이 생기며, 행이 없으면 읽지 않은 상태다.
+ */
+@Entity
+@Table(name = "broadcast_notification_state",
+        indexes = @Index(name = "idx_broadcast_state_user", columnList = "user_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BroadcastNotificationState {
+
+    @EmbeddedId
+    private BroadcastNotificationStateId id;
+
+    private boolean isRead;
+
+    private boolean isDeleted;
+}
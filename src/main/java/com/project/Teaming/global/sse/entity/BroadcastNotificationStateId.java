@@ -0,0 +1,21 @@
+package com.project.Teaming.global.sse.entity;
+
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BroadcastNotificationStateId implements Serializable {
+
+    private Long broadcastId;
+
+    private Long userId;
+}
@@ -1,13 +1,16 @@
 package com.project.Teaming.global.sse.entity;
 
 import com.project.Teaming.domain.user.entity.User;
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,26 +18,39 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(name = "notification",
+        indexes = {
+                @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"),  // 알림 내역 커서 조회용
+                @Index(name = "idx_notification_read_created", columnList = "is_read, created_at")  // 보관 기간 정리 대상 조회용
+        })
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Notification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    private String message;
+    private String message;  // 템플릿 도입 이전 알림의 완성된 메시지 (새 알림은 null)
 
     private Long teamId;
 
-    private String type;  // 알림 유형
+    private String type;  // 알림 유형 (템플릿 도입 이전 알림)
     private String category;
 
+    @Convert(converter = NotificationTypeConverter.class)
+    @Column(name = "template")
+    private NotificationType template;  // 메시지 템플릿 (code 로 저장)
+
+    private Long actorId;  // 템플릿의 {actor} (알림을 발생시킨 유저)
+
+    private Integer param;  // 템플릿의 숫자 파라미터 (경고 횟수, 합쳐진 알림 수)
+
     private boolean isRead; // 읽음 여부
 
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -48,6 +64,18 @@ public class Notification {
         this.isRead = false;
     }
 
+    /**
+     * 템플릿 기반 알림. 메시지는 저장하지 않고 조회/전송 시점에 렌더링한다.
+     */
+    public Notification(User user, Long teamId, NotificationType template, Long actorId, Integer param) {
+        this.user = user;
+        this.teamId = teamId;
+        this.template = template;
+        this.actorId = actorId;
+        this.param = param;
+        this.isRead = false;
+    }
+
     public Notification(User user, String message, Long teamId, String type, String category) {
         this.user = user;
         this.category = category;
@@ -0,0 +1,10 @@
+package com.project.Teaming.global.sse.entity;
+
+/**
+ * 알림 일괄 처리 작업 상태
+ */
+public enum NotificationJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.project.Teaming.global.sse.entity;
+
+/**
+ * 알림 일괄 처리 작업 종류
+ */
+public enum NotificationJobType {
+    MARK_ALL_READ,    // 모든 알림 읽음 처리
+    DELETE_ALL_READ   // 읽은 알림 모두 삭제
+}
@@ -0,0 +1,34 @@
+package com.project.Teaming.global.sse.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 전달 lane. lane 마다 큐(stream)와 컨슈머가 분리되어, 우선 lane 의 알림은 일반 lane 의 적체에 밀리지 않는다.
+ * lane 은 NotificationType 으로 정해진다.
+ */
+@Getter
+@AllArgsConstructor
+public enum NotificationLane {
+    PRIORITY(".priority"),  // 경고 등 제재 알림
+    NORMAL("");             // 참가 신청 등 나머지 알림
+
+    private static final Map<String, NotificationLane> BY_TITLE = new HashMap<>();
+
+    static {
+        for (NotificationType type : NotificationType.values()) {
+            BY_TITLE.merge(type.getTitle(), type.lane(), (current, lane) -> (current == PRIORITY) ? current : lane);
+        }
+    }
+
+    private final String queueSuffix;  // 서버 큐(stream) 이름 뒤에 붙는 값
+
+    /**
+     * 메시지에 담긴 유형(title)으로 lane 을 찾는다. 알 수 없는 유형은 일반 lane
+     */
+    public static NotificationLane fromTitle(String title) {
+        return (title == null) ? NORMAL : BY_TITLE.getOrDefault(title, NORMAL);
+    }
+}
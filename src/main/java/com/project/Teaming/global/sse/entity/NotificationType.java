@@ -1,27 +1,113 @@
 package com.project.Teaming.global.sse.entity;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 알림 유형이자 메시지 템플릿.
+ * 알림 행에는 code 와 파라미터(행위자 id, 팀 id, 숫자)만 저장하고, 조회/전송 시점에 이름을 채워 메시지를 만든다.
+ * code 는 DB 에 저장되는 값이므로 한 번 정한 값은 바꾸지 않는다.
+ * 템플릿 변수 - {actor}: 행위자 이름, {team}: 팀 이름, {count}: 숫자 파라미터, {others}: 숫자 파라미터 - 1 (요약 알림)
+ */
 @Getter
 @AllArgsConstructor
 public enum NotificationType {
 
-    TEAM_JOIN_REQUEST("프로젝트","project"),
-    PROJECT_TEAM_ACCEPT("프로젝트","project"),
-    PROJECT_TEAM_REJECT("프로젝트","project"),
-    PROJECT_TEAM_QUIT("프로젝트","project"),
-    PROJECT_TEAM_EXPORT("프로젝트","project"),
-    MENTORING_TEAM_JOIN_REQUEST("멘토링 팀 신청 알림","mentoring"),
-    MENTORING_TEAM_ACCEPT("멘토링 수락 알림","mentoring"),
-    MENTORING_TEAM_REJECT("멘토링 거절 알림","mentoring"),
-    MENTORING_EXPORT("멘토링 강퇴 알림","mentoring"),
-    MENTORING_EXPORT2("멘토링 강퇴된 유저에게 가는 알림","mentoring"),
-    MENTORING_DELETE("멘토링 탈퇴 알림","mentoring"),
-    WARNING_COUNT_INCREMENT("warning","전역"),
-    WELCOME_USER("notice","전역"),
-    WARNING("warning","전역");
+    TEAM_JOIN_REQUEST("프로젝트","project", 1,
+            "{actor} 님이 \"{team}\"팀에 참가 신청을 했습니다.",
+            "{actor} 님 외 {others}명이 \"{team}\"팀에 참가 신청을 했습니다."),
+    PROJECT_TEAM_ACCEPT("프로젝트","project", 2, "\"{team}\" 팀의 신청이 수락되었습니다.", null),
+    PROJECT_TEAM_REJECT("프로젝트","project", 3, "\"{team}\" 팀의 신청이 거절되었습니다.", null),
+    PROJECT_TEAM_QUIT("프로젝트","project", 4, "\"{actor}\" 님이 \"{team}\" 팀에서 탈퇴 하였습니다. 신고는 7일 이내에 가능합니다.", null),
+    PROJECT_TEAM_EXPORT("프로젝트","project", 5, "\"{actor}\" 님이 \"{team}\" 팀에서 강퇴 되었습니다. 신고는 7일 이내에 가능합니다.", null),
+    MENTORING_TEAM_JOIN_REQUEST("멘토링 팀 신청 알림","mentoring", 6,
+            "{actor} 님이 {team} 팀에 참가 신청을 했습니다.",
+            "{actor} 님 외 {others}명이 {team} 팀에 참가 신청을 했습니다."),
+    MENTORING_TEAM_ACCEPT("멘토링 수락 알림","mentoring", 7, "{team} 팀의 신청이 수락되었습니다.", null),
+    MENTORING_TEAM_REJECT("멘토링 거절 알림","mentoring", 8, "{team} 팀의 신청이 거절되었습니다.", null),
+    MENTORING_EXPORT("멘토링 강퇴 알림","mentoring", 9, "{actor} 님이 {team} 팀에서 강퇴 되었습니다. 신고는 7일 이내에 가능합니다.", null),
+    MENTORING_EXPORT2("멘토링 강퇴된 유저에게 가는 알림","mentoring", 10, "{team} 팀에서 강퇴되었습니다.", null),
+    MENTORING_DELETE("멘토링 탈퇴 알림","mentoring", 11, "{actor} 님이 {team} 팀에서 탈퇴 하였습니다. 신고는 7일 이내에 가능합니다.", null),
+    WARNING_COUNT_INCREMENT("warning","전역", 12, "경고 횟수가 증가하였습니다.", null),
+    WELCOME_USER("notice","전역", 13, "{actor}님, 환영합니다! 프로젝트 & 멘토링 매칭을 지원하는 Teaming 입니다.", null),
+    WARNING("warning","전역", 14, "경고 횟수가 {count}로 증가했습니다.", null);
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(actor|team|others|count)\\}");
+    private static final NotificationType[] BY_CODE = new NotificationType[16];
+
+    static {
+        for (NotificationType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
 
     private String title;
     private String category;
+    private int code;
+    private String template;
+    private String digestTemplate;  // 여러 알림을 합친 요약 템플릿 (없으면 null)
+
+    public static NotificationType fromCode(int code) {
+        NotificationType type = (code >= 0 && code < BY_CODE.length) ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown notification type code: " + code);
+        }
+        return type;
+    }
+
+    public static List<NotificationType> findAllByTitle(String title) {
+        return Arrays.stream(values()).filter(type -> type.title.equals(title)).toList();
+    }
+
+    public static List<NotificationType> findAllByCategory(String category) {
+        return Arrays.stream(values()).filter(type -> type.category.equals(category)).toList();
+    }
+
+    public boolean isProject() {
+        return "project".equals(category);
+    }
+
+    public boolean isMentoring() {
+        return "mentoring".equals(category);
+    }
+
+    /**
+     * 전달 lane. 경고 알림은 참가 신청 같은 대량 알림 뒤에서 기다리지 않도록 우선 lane 으로 보낸다.
+     */
+    public NotificationLane lane() {
+        return switch (this) {
+            case WARNING, WARNING_COUNT_INCREMENT -> NotificationLane.PRIORITY;
+            default -> NotificationLane.NORMAL;
+        };
+    }
+
+    public boolean usesActor() {
+        return template.contains("{actor}") || (digestTemplate != null && digestTemplate.contains("{actor}"));
+    }
+
+    /**
+     * 템플릿 변수를 한 번에 치환한다. 이름에 "{team}" 같은 문자열이 들어 있어도 다시 치환되지 않는다.
+     * @param count 숫자 파라미터. 요약 템플릿이 있는 유형은 합쳐진 알림 수 (2 이상이면 요약 메시지)
+     */
+    public String render(String actorName, String teamName, Integer count) {
+        boolean digest = digestTemplate != null && count != null && count > 1;
+        Matcher matcher = PLACEHOLDER.matcher(digest ? digestTemplate : template);
+        StringBuilder message = new StringBuilder();
+        while (matcher.find()) {
+            String value = switch (matcher.group(1)) {
+                case "actor" -> actorName;
+                case "team" -> teamName;
+                case "others" -> (count == null) ? null : String.valueOf(count - 1);
+                default -> (count == null) ? null : String.valueOf(count);
+            };
+            // 값이 없으면 변수를 그대로 둔다
+            matcher.appendReplacement(message, Matcher.quoteReplacement((value == null) ? matcher.group() : value));
+        }
+        matcher.appendTail(message);
+        return message.toString();
+    }
 }
@@ -0,0 +1,21 @@
+package com.project.Teaming.global.sse.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 알림 유형을 이름 대신 작은 숫자 code 로 저장한다.
+ */
+@Converter
+public class NotificationTypeConverter implements AttributeConverter<NotificationType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(NotificationType type) {
+        return (type == null) ? null : (short) type.getCode();
+    }
+
+    @Override
+    public NotificationType convertToEntityAttribute(Short code) {
+        return (code == null) ? null : NotificationType.fromCode(code);
+    }
+}
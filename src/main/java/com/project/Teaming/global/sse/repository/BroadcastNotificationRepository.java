@@ -0,0 +1,14 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.entity.BroadcastNotification;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long>, BroadcastNotificationRepositoryCustom {
+
+    // 요청 id 중 브로드캐스트 알림인 id (PK 조회만 하므로 참여 정보 조회 전에 걸러내는 용도)
+    @Query("SELECT b.id FROM BroadcastNotification b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+}
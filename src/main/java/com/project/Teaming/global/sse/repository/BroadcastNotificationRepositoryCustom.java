@@ -0,0 +1,25 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.dto.BroadcastMembership;
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import com.project.Teaming.global.sse.entity.BroadcastNotification;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface BroadcastNotificationRepositoryCustom {
+
+    List<BroadcastMembership> findMemberships(List<Long> userIds);
+
+    List<NotificationResponseDto> findBroadcastsByCursor(Long userId, List<BroadcastMembership> memberships,
+                                                         LocalDateTime cursorCreatedAt, Long cursorId, Integer size,
+                                                         String category, String type, boolean unreadOnly);
+
+    List<BroadcastNotification> findUnreadBroadcastsFrom(Long userId, List<BroadcastMembership> memberships, LocalDateTime since, int size);
+
+    List<Long> findVisibleIds(Long userId, List<BroadcastMembership> memberships, List<Long> ids, boolean unreadOnly);
+
+    Map<Long, Long> countUnreadByUserIds(List<Long> userIds);
+
+    int markAllAsRead(Long userId, List<BroadcastMembership> memberships, long maxId, int limit);
+}
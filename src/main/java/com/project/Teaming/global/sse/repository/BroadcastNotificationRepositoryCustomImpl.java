@@ -0,0 +1,287 @@
+package com.project.Teaming.global.sse.repository;
+
+import static com.project.Teaming.domain.mentoring.entity.QMentoringParticipation.mentoringParticipation;
+import static com.project.Teaming.domain.project.entity.QProjectParticipation.projectParticipation;
+import static com.project.Teaming.global.sse.entity.QBroadcastNotification.broadcastNotification;
+import static com.project.Teaming.global.sse.entity.QBroadcastNotificationState.broadcastNotificationState;
+
+import com.project.Teaming.domain.mentoring.entity.MentoringParticipationStatus;
+import com.project.Teaming.domain.project.entity.ParticipationStatus;
+import com.project.Teaming.global.sse.dto.BroadcastMembership;
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import com.project.Teaming.global.sse.entity.BroadcastAudience;
+import com.project.Teaming.global.sse.entity.BroadcastNotification;
+import com.project.Teaming.global.sse.entity.QBroadcastNotification;
+import com.project.Teaming.global.sse.entity.QBroadcastNotificationState;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BroadcastNotificationRepositoryCustomImpl implements BroadcastNotificationRepositoryCustom {
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public BroadcastNotificationRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 유저들의 현재 팀 참여 정보 (수락 상태인 프로젝트/멘토링 팀)
+     */
+    @Override
+    public List<BroadcastMembership> findMemberships(List<Long> userIds) {
+        List<BroadcastMembership> memberships = new ArrayList<>();
+        queryFactory
+                .select(projectParticipation.user.id, projectParticipation.projectTeam.id, projectParticipation.role, projectParticipation.decisionDate)
+                .from(projectParticipation)
+                .where(
+                        projectParticipation.user.id.in(userIds),
+                        projectParticipation.participationStatus.eq(ParticipationStatus.ACCEPTED),
+                        projectParticipation.isDeleted.isFalse(),
+                        projectParticipation.isExport.isFalse()
+                )
+                .fetch()
+                .forEach(row -> memberships.add(new BroadcastMembership(row.get(projectParticipation.user.id), BroadcastAudience.PROJECT_TEAM,
+                        row.get(projectParticipation.projectTeam.id), roleName(row.get(projectParticipation.role)), row.get(projectParticipation.decisionDate))));
+        queryFactory
+                .select(mentoringParticipation.user.id, mentoringParticipation.mentoringTeam.id, mentoringParticipation.authority, mentoringParticipation.decisionDate)
+                .from(mentoringParticipation)
+                .where(
+                        mentoringParticipation.user.id.in(userIds),
+                        mentoringParticipation.participationStatus.eq(MentoringParticipationStatus.ACCEPTED)
+                )
+                .fetch()
+                .forEach(row -> memberships.add(new BroadcastMembership(row.get(mentoringParticipation.user.id), BroadcastAudience.MENTORING_TEAM,
+                        row.get(mentoringParticipation.mentoringTeam.id), roleName(row.get(mentoringParticipation.authority)), row.get(mentoringParticipation.decisionDate))));
+        return memberships;
+    }
+
+    /**
+     * 유저에게 보이는 브로드캐스트 알림을 (createdAt, id) 키셋으로 조회한다. 유저별 상태는 left join 으로 합친다.
+     * @param size null 이면 전체 조회
+     */
+    @Override
+    public List<NotificationResponseDto> findBroadcastsByCursor(Long userId, List<BroadcastMembership> memberships,
+                                                                LocalDateTime cursorCreatedAt, Long cursorId, Integer size,
+                                                                String category, String type, boolean unreadOnly) {
+        QBroadcastNotification b = broadcastNotification;
+        QBroadcastNotificationState s = broadcastNotificationState;
+
+        JPAQuery<Tuple> query = visibleQuery(userId, memberships)
+                .select(b.id, b.message, b.type, b.category, b.teamId, s.isRead, b.createdAt)
+                .where(
+                        cursorCondition(cursorCreatedAt, cursorId),
+                        (category == null || category.isBlank()) ? null : b.category.eq(category),
+                        (type == null || type.isBlank()) ? null : b.type.eq(type),
+                        unreadOnly ? s.isRead.isNull().or(s.isRead.isFalse()) : null
+                )
+                .orderBy(b.createdAt.desc(), b.id.desc());
+        if (size != null) {
+            query.limit(size);
+        }
+
+        return query.fetch().stream()
+                .map(row -> new NotificationResponseDto(row.get(b.id), userId, row.get(b.message), row.get(b.type),
+                        row.get(b.category), row.get(b.teamId), Boolean.TRUE.equals(row.get(s.isRead)), row.get(b.createdAt)))
+                .toList();
+    }
+
+    /**
+     * since 이후 생성되어 유저에게 보이는 읽지 않은 브로드캐스트 알림을 (createdAt, id) 오름차순으로 조회한다. (SSE 재연결 재전송용)
+     */
+    @Override
+    public List<BroadcastNotification> findUnreadBroadcastsFrom(Long userId, List<BroadcastMembership> memberships, LocalDateTime since, int size) {
+        QBroadcastNotification b = broadcastNotification;
+        QBroadcastNotificationState s = broadcastNotificationState;
+
+        return visibleQuery(userId, memberships)
+                .select(b)
+                .where(
+                        b.createdAt.goe(since),
+                        s.isRead.isNull().or(s.isRead.isFalse())
+                )
+                .orderBy(b.createdAt.asc(), b.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * ids 중 유저에게 보이는(삭제하지 않은) 브로드캐스트 알림 id
+     */
+    @Override
+    public List<Long> findVisibleIds(Long userId, List<BroadcastMembership> memberships, List<Long> ids, boolean unreadOnly) {
+        QBroadcastNotification b = broadcastNotification;
+        QBroadcastNotificationState s = broadcastNotificationState;
+
+        return visibleQuery(userId, memberships)
+                .select(b.id)
+                .where(
+                        b.id.in(ids),
+                        unreadOnly ? s.isRead.isNull().or(s.isRead.isFalse()) : null
+                )
+                .fetch();
+    }
+
+    /**
+     * 유저별 읽지 않은 브로드캐스트 알림 수. (참여 정보, 대상 알림, 처리 상태를 각각 한 번씩 조회해 메모리에서 계산)
+     */
+    @Override
+    public Map<Long, Long> countUnreadByUserIds(List<Long> userIds) {
+        QBroadcastNotification b = broadcastNotification;
+        QBroadcastNotificationState s = broadcastNotificationState;
+
+        List<BroadcastMembership> memberships = findMemberships(userIds);
+        Set<Long> projectTeamIds = new HashSet<>();
+        Set<Long> mentoringTeamIds = new HashSet<>();
+        memberships.forEach(membership -> (membership.getAudience() == BroadcastAudience.PROJECT_TEAM ? projectTeamIds : mentoringTeamIds)
+                .add(membership.getTeamId()));
+
+        BooleanExpression audienceCondition = b.audience.eq(BroadcastAudience.ALL);
+        if (!projectTeamIds.isEmpty()) {
+            audienceCondition = audienceCondition.or(b.audience.eq(BroadcastAudience.PROJECT_TEAM).and(b.teamId.in(projectTeamIds)));
+        }
+        if (!mentoringTeamIds.isEmpty()) {
+            audienceCondition = audienceCondition.or(b.audience.eq(BroadcastAudience.MENTORING_TEAM).and(b.teamId.in(mentoringTeamIds)));
+        }
+        List<Tuple> broadcasts = queryFactory
+                .select(b.id, b.audience, b.teamId, b.targetRole, b.createdAt)
+                .from(b)
+                .where(audienceCondition)
+                .fetch();
+
+        Set<String> handled = new HashSet<>();  // "userId:broadcastId"
+        queryFactory
+                .select(s.id.userId, s.id.broadcastId)
+                .from(s)
+                .where(s.id.userId.in(userIds), s.isRead.isTrue().or(s.isDeleted.isTrue()))
+                .fetch()
+                .forEach(row -> handled.add(row.get(s.id.userId) + ":" + row.get(s.id.broadcastId)));
+
+        Map<Long, List<BroadcastMembership>> membershipsByUser = new HashMap<>();
+        memberships.forEach(membership -> membershipsByUser.computeIfAbsent(membership.getUserId(), key -> new ArrayList<>()).add(membership));
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long userId : userIds) {
+            List<BroadcastMembership> userMemberships = membershipsByUser.getOrDefault(userId, List.of());
+            long count = 0;
+            for (Tuple broadcast : broadcasts) {
+                if (isVisible(broadcast.get(b.audience), broadcast.get(b.teamId), broadcast.get(b.targetRole), broadcast.get(b.createdAt), userMemberships)
+                        && !handled.contains(userId + ":" + broadcast.get(b.id))) {
+                    count++;
+                }
+            }
+            counts.put(userId, count);
+        }
+        return counts;
+    }
+
+    /**
+     * 모든 알림 읽음 처리 작업의 한 chunk. 유저에게 보이면서 상태 행이 없는(읽지 않은) 알림에 읽음 행을 만든다.
+     * INSERT ... SELECT 는 QueryDSL 로 만들 수 없어 audienceCondition 과 같은 조건을 native SQL 로 만든다.
+     * @return 읽음 처리된 알림 수. limit 보다 작으면 남은 알림이 없다
+     */
+    @Override
+    public int markAllAsRead(Long userId, List<BroadcastMembership> memberships, long maxId, int limit) {
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        StringBuilder audience = new StringBuilder("b.audience = '").append(BroadcastAudience.ALL.name()).append("'");
+        for (BroadcastMembership membership : memberships) {
+            params.add(membership.getAudience().name());
+            params.add(membership.getTeamId());
+            audience.append(" OR (b.audience = ?").append(params.size() - 1).append(" AND b.team_id = ?").append(params.size());
+            if (membership.getRole() == null) {
+                audience.append(" AND b.target_role IS NULL");
+            } else {
+                params.add(membership.getRole());
+                audience.append(" AND (b.target_role IS NULL OR b.target_role = ?").append(params.size()).append(")");
+            }
+            if (membership.getJoinedAt() != null) {
+                params.add(membership.getJoinedAt());
+                audience.append(" AND b.created_at >= ?").append(params.size());
+            }
+            audience.append(")");
+        }
+        params.add(maxId);
+        params.add(limit);
+
+        String sql = "INSERT IGNORE INTO broadcast_notification_state (broadcast_id, user_id, is_read, is_deleted) " +
+                "SELECT b.id, ?1, true, false FROM broadcast_notification b " +
+                "WHERE (" + audience + ") AND b.id <= ?" + (params.size() - 1) + " " +
+                "AND NOT EXISTS (SELECT 1 FROM broadcast_notification_state s WHERE s.broadcast_id = b.id AND s.user_id = ?1) " +
+                "ORDER BY b.id LIMIT ?" + params.size();
+        Query query = em.createNativeQuery(sql);
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+        return query.executeUpdate();
+    }
+
+    // 대상 조건을 만족하고, 유저가 삭제하지 않은 브로드캐스트 알림
+    private JPAQuery<?> visibleQuery(Long userId, List<BroadcastMembership> memberships) {
+        QBroadcastNotification b = broadcastNotification;
+        QBroadcastNotificationState s = broadcastNotificationState;
+
+        return queryFactory
+                .from(b)
+                .leftJoin(s).on(s.id.broadcastId.eq(b.id), s.id.userId.eq(userId))
+                .where(
+                        audienceCondition(memberships),
+                        s.isDeleted.isNull().or(s.isDeleted.isFalse())
+                );
+    }
+
+    private BooleanExpression audienceCondition(List<BroadcastMembership> memberships) {
+        QBroadcastNotification b = broadcastNotification;
+        BooleanExpression condition = b.audience.eq(BroadcastAudience.ALL);
+        for (BroadcastMembership membership : memberships) {
+            BooleanExpression team = b.audience.eq(membership.getAudience()).and(b.teamId.eq(membership.getTeamId()));
+            // 특정 역할 대상 알림은 그 역할인 팀원에게만 보인다
+            team = team.and(membership.getRole() == null ? b.targetRole.isNull() : b.targetRole.isNull().or(b.targetRole.eq(membership.getRole())));
+            if (membership.getJoinedAt() != null) {
+                team = team.and(b.createdAt.goe(membership.getJoinedAt()));  // 합류 이전 알림은 보이지 않는다
+            }
+            condition = condition.or(team);
+        }
+        return condition;
+    }
+
+    private boolean isVisible(BroadcastAudience audience, Long teamId, String targetRole, LocalDateTime createdAt, List<BroadcastMembership> memberships) {
+        if (audience == BroadcastAudience.ALL) {
+            return true;
+        }
+        for (BroadcastMembership membership : memberships) {
+            if (membership.getAudience() == audience && membership.getTeamId().equals(teamId)
+                    && (targetRole == null || targetRole.equals(membership.getRole()))
+                    && (membership.getJoinedAt() == null || !createdAt.isBefore(membership.getJoinedAt()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String roleName(Enum<?> role) {
+        return role == null ? null : role.name();
+    }
+
+    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
+        QBroadcastNotification b = broadcastNotification;
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return b.createdAt.lt(cursorCreatedAt)
+                .or(b.createdAt.eq(cursorCreatedAt).and(b.id.lt(cursorId)));
+    }
+}
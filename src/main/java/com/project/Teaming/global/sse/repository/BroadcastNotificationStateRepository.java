@@ -0,0 +1,40 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.entity.BroadcastNotificationState;
+import com.project.Teaming.global.sse.entity.BroadcastNotificationStateId;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 보이는(삭제하지 않은) 브로드캐스트 알림은 상태 행이 없으면 읽지 않은 것이고, 있으면 읽은 것이다.
+ * 그래서 상태 행을 새로 만든 건수가 곧 읽지 않았던 알림 수가 된다.
+ */
+public interface BroadcastNotificationStateRepository extends JpaRepository<BroadcastNotificationState, BroadcastNotificationStateId> {
+
+    // 상태 행이 없던(읽지 않은) 알림만 읽음 행을 만든다
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO broadcast_notification_state (broadcast_id, user_id, is_read, is_deleted) " +
+            "SELECT b.id, :userId, true, false FROM broadcast_notification b WHERE b.id IN (:broadcastIds)", nativeQuery = true)
+    int markAsRead(@Param("userId") Long userId, @Param("broadcastIds") List<Long> broadcastIds);
+
+    // 읽지 않은 알림 삭제: 상태 행이 없던 알림만 삭제 행을 만든다
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO broadcast_notification_state (broadcast_id, user_id, is_read, is_deleted) " +
+            "SELECT b.id, :userId, false, true FROM broadcast_notification b WHERE b.id IN (:broadcastIds)", nativeQuery = true)
+    int markUnreadAsDeleted(@Param("userId") Long userId, @Param("broadcastIds") List<Long> broadcastIds);
+
+    // 읽은 알림 삭제: 이미 있는 상태 행에 삭제 표시
+    @Modifying
+    @Query(value = "UPDATE broadcast_notification_state SET is_deleted = true " +
+            "WHERE user_id = :userId AND broadcast_id IN (:broadcastIds) AND is_deleted = false", nativeQuery = true)
+    int markReadAsDeleted(@Param("userId") Long userId, @Param("broadcastIds") List<Long> broadcastIds);
+
+    // 읽은 알림 모두 삭제 작업의 한 chunk. 읽은 알림은 항상 상태 행이 있으므로 대상 조건 없이 상태 테이블만 갱신한다
+    @Modifying
+    @Query(value = "UPDATE broadcast_notification_state SET is_deleted = true " +
+            "WHERE user_id = :userId AND broadcast_id <= :maxId AND is_read = true AND is_deleted = false LIMIT :limit", nativeQuery = true)
+    int deleteAllRead(@Param("userId") Long userId, @Param("maxId") long maxId, @Param("limit") int limit);
+}
@@ -1,32 +1,94 @@
 package com.project.Teaming.global.sse.repository;
 
+import com.project.Teaming.global.sse.connection.SseConnection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-
-import com.project.Teaming.global.error.ErrorCode;
-import com.project.Teaming.global.error.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 유저별 SSE 연결 저장소. 한 유저가 여러 탭/기기에서 동시에 연결할 수 있다.
+ * 유저 하나당 Map 엔트리 하나만 두고, 연결 목록은 copy-on-write 배열로 보관해
+ * 연결마다 Map 엔트리와 박싱된 키가 생기지 않도록 한다. (연결 id 는 primitive long)
+ */
 @Repository
-@RequiredArgsConstructor
 public class EmitterRepository {
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
 
-    public SseEmitter findById(Long userId) {
-        return emitters.get(userId);
+    private static final SseConnection[] EMPTY = new SseConnection[0];
+
+    private final Map<Long, SseConnection[]> connections = new ConcurrentHashMap<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public long nextConnectionId() {
+        return connectionSequence.incrementAndGet();
+    }
+
+    public SseConnection save(SseConnection connection) {
+        connections.compute(connection.getUserId(), (userId, current) -> {
+            SseConnection[] base = (current == null) ? EMPTY : current;
+            SseConnection[] updated = Arrays.copyOf(base, base.length + 1);
+            updated[base.length] = connection;
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+        return connection;
+    }
+
+    public List<SseConnection> findAllByUserId(Long userId) {
+        SseConnection[] userConnections = connections.get(userId);
+        return (userConnections == null) ? Collections.emptyList() : Arrays.asList(userConnections);
+    }
+
+    public boolean existsByUserId(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    /**
+     * 특정 연결만 제거한다. 같은 유저의 다른 연결(다른 탭, 새로 맺은 연결)에는 영향을 주지 않는다.
+     */
+    public void deleteById(Long userId, long connectionId) {
+        connections.computeIfPresent(userId, (key, current) -> {
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].getConnectionId() == connectionId) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return current;
+            }
+            connectionCount.decrementAndGet();
+            if (current.length == 1) {
+                return null;
+            }
+            SseConnection[] updated = new SseConnection[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            return updated;
+        });
+    }
+
+    public Set<Long> findAllUserIds() {
+        return connections.keySet();
     }
 
-    public SseEmitter save(Long userId, SseEmitter sseEmitter) {
-        emitters.put(userId, sseEmitter);
-        return emitters.get(userId);
+    public void forEach(Consumer<SseConnection> action) {
+        connections.values().forEach(userConnections -> {
+            for (SseConnection connection : userConnections) {
+                action.accept(connection);
+            }
+        });
     }
 
-    public void deleteById(Long userId) {
-        emitters.remove(userId);
+    public int count() {
+        return connectionCount.get();
     }
 }
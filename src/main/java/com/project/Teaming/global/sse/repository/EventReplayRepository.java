@@ -0,0 +1,163 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.connection.SseFrame;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SSE 재연결 시 놓친 이벤트를 다시 보내기 위한 최근 이벤트 버퍼.
+ * 1차: 유저가 이 노드에 연결되어 있는 동안만 유지하는 로컬 링 버퍼
+ * 2차: 모든 노드가 공유하는 Redis list
+ * 알림 id(TSID)는 노드마다 따로 채번되어 커밋 순서와 다를 수 있으므로, 두 버퍼 모두 id 가 아니라 기록된 순서를 기준으로
+ * Last-Event-ID 다음에 기록된 이벤트를 돌려준다. Last-Event-ID 가 버퍼에 없으면 null 을 반환하고, 호출 측은 DB 에서 조회한다.
+ */
+@Slf4j
+@Repository
+public class EventReplayRepository {
+
+    private static final String REPLAY_KEY = "sse:replay-log:";  // 이전의 id 순 sorted set(sse:replay:) 과 키를 나눈다
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Long, ReplayRing> localRings = new ConcurrentHashMap<>();
+
+    @Value("${sse.replay.local-size:32}")
+    private int localSize;
+
+    @Value("${sse.replay.redis-size:200}")
+    private int redisSize;
+
+    @Value("${sse.replay.redis-ttl-seconds:7200}")
+    private long redisTtlSeconds;
+
+    public EventReplayRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 이벤트를 버퍼에 기록한다.
+     * @param connectedHere 이 노드에 유저의 연결이 있는지 여부. 연결이 있을 때만 로컬 링에 기록한다
+     */
+    public void save(Long userId, SseFrame frame, boolean connectedHere) {
+        if (connectedHere) {
+            localRings.computeIfAbsent(userId, key -> new ReplayRing(localSize)).add(frame.withTrace(null));  // 재전송은 지연 기록 대상이 아니다
+        }
+
+        String key = REPLAY_KEY + userId;
+        String member = frame.getId() + SEPARATOR + frame.getData();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.rPush(key, member);
+                stringConnection.lTrim(key, -redisSize, -1);  // 최근 redisSize 개만 유지
+                stringConnection.expire(key, redisTtlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("SSE 재전송 버퍼 기록 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * lastEventId 다음에 기록된 이벤트를 기록 순서대로 반환한다. 버퍼가 해당 구간을 보장하지 못하면 null.
+     */
+    public List<SseFrame> findAllAfter(Long userId, long lastEventId, String eventName) {
+        ReplayRing ring = localRings.get(userId);
+        if (ring != null) {
+            List<SseFrame> local = ring.after(lastEventId);
+            if (local != null) {
+                return local;
+            }
+        }
+        try {
+            return findAllAfterInRedis(userId, lastEventId, eventName);
+        } catch (Exception e) {
+            log.warn("SSE 재전송 버퍼 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 유저의 마지막 연결이 이 노드에서 끊기면 로컬 링을 버린다.
+     * 연결이 없는 동안의 이벤트는 로컬에 기록되지 않으므로, 남겨두면 구간이 비어있는 버퍼가 된다.
+     */
+    public void deleteLocal(Long userId) {
+        localRings.remove(userId);
+    }
+
+    private List<SseFrame> findAllAfterInRedis(Long userId, long lastEventId, String eventName) {
+        List<String> members = redisTemplate.opsForList().range(REPLAY_KEY + userId, 0, -1);
+        if (members == null) {
+            return null;
+        }
+        // 같은 알림이 여러 번 기록될 수 있으므로 마지막으로 기록된 위치부터 보낸다
+        int last = -1;
+        for (int i = 0; i < members.size(); i++) {
+            if (idOf(members.get(i)) == lastEventId) {
+                last = i;
+            }
+        }
+        if (last < 0) {
+            return null;  // 버퍼가 비었거나 lastEventId 가 이미 밀려남
+        }
+
+        List<SseFrame> frames = new ArrayList<>(members.size() - last - 1);
+        for (String member : members.subList(last + 1, members.size())) {
+            int separator = member.indexOf(SEPARATOR);
+            frames.add(new SseFrame(member.substring(0, separator), eventName, member.substring(separator + 1)));
+        }
+        return frames;
+    }
+
+    private long idOf(String member) {
+        return Long.parseLong(member.substring(0, member.indexOf(SEPARATOR)));
+    }
+
+    private static class ReplayRing {
+
+        private final int capacity;
+        private final ArrayDeque<SseFrame> frames;
+
+        ReplayRing(int capacity) {
+            this.capacity = capacity;
+            this.frames = new ArrayDeque<>(capacity);
+        }
+
+        synchronized void add(SseFrame frame) {
+            if (frames.size() == capacity) {
+                frames.pollFirst();
+            }
+            frames.addLast(frame);
+        }
+
+        /**
+         * lastEventId 가 링에 남아있을 때만 그 이후 이벤트를 반환한다. (링은 연결이 유지되는 동안 빠짐없이 기록됨)
+         */
+        synchronized List<SseFrame> after(long lastEventId) {
+            List<SseFrame> result = new ArrayList<>();
+            boolean found = false;
+            Iterator<SseFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                SseFrame frame = iterator.next();
+                long id = Long.parseLong(frame.getId());
+                if (found) {
+                    result.add(frame);
+                } else if (id == lastEventId) {
+                    found = true;
+                }
+            }
+            return found ? result : null;
+        }
+    }
+}
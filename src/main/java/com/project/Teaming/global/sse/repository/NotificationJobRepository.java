@@ -0,0 +1,84 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.entity.NotificationJobStatus;
+import com.project.Teaming.global.sse.entity.NotificationJobType;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 일괄 처리 작업 상태 (Redis db 3번).
+ * 작업 정보는 hash 로 보관하고, 유저별 같은 종류의 작업이 하나만 실행되도록 진행 중인 작업 id 를 따로 기록한다.
+ */
+@Repository
+public class NotificationJobRepository {
+
+    private static final String JOB_KEY = "notification:job:";
+    private static final String ACTIVE_KEY = "notification:job:active:";
+    private static final String USER_ID = "userId";
+    private static final String TYPE = "type";
+    private static final String STATUS = "status";
+    private static final String PROCESSED = "processed";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public NotificationJobRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 작업을 등록한다. 같은 유저의 같은 종류 작업이 진행 중이면 등록하지 않고 그 작업 id 를 반환한다.
+     * @return 진행 중인 다른 작업 id, 새로 등록했으면 null
+     */
+    public String saveIfNotRunning(String jobId, Long userId, NotificationJobType type, Duration ttl) {
+        String key = JOB_KEY + jobId;
+        Map<String, String> fields = new HashMap<>();
+        fields.put(USER_ID, String.valueOf(userId));
+        fields.put(TYPE, type.name());
+        fields.put(STATUS, NotificationJobStatus.RUNNING.name());
+        fields.put(PROCESSED, "0");
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+
+        String activeKey = activeKey(userId, type);
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(activeKey, jobId, ttl))) {
+            return null;
+        }
+        String runningJobId = redisTemplate.opsForValue().get(activeKey);
+        if (runningJobId == null) {
+            // 그 사이 진행 중이던 작업이 끝났다. 같은 작업이 겹쳐 실행되어도 결과는 같으므로 그대로 등록한다
+            redisTemplate.opsForValue().setIfAbsent(activeKey, jobId, ttl);
+            return null;
+        }
+        redisTemplate.delete(key);
+        return runningJobId;
+    }
+
+    public void addProcessed(String jobId, long count) {
+        if (count > 0) {
+            redisTemplate.opsForHash().increment(JOB_KEY + jobId, PROCESSED, count);
+        }
+    }
+
+    public void finish(String jobId, Long userId, NotificationJobType type, NotificationJobStatus status) {
+        redisTemplate.opsForHash().put(JOB_KEY + jobId, STATUS, status.name());
+        redisTemplate.delete(activeKey(userId, type));
+    }
+
+    /**
+     * @return 작업 정보 (userId, type, status, processed). 없거나 만료되었으면 빈 map
+     */
+    public Map<String, String> find(String jobId) {
+        Map<String, String> job = new HashMap<>();
+        redisTemplate.opsForHash().entries(JOB_KEY + jobId)
+                .forEach((field, value) -> job.put(field.toString(), value.toString()));
+        return job;
+    }
+
+    private String activeKey(Long userId, NotificationJobType type) {
+        return ACTIVE_KEY + userId + ":" + type.name();
+    }
+}
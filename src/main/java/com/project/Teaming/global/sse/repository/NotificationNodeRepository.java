@@ -0,0 +1,38 @@
+package com.project.Teaming.global.sse.repository;
+
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 큐를 가진 서버 목록 (Redis db 3번).
+ * sorted set 의 score 에 만료 시각을 두어, 하트비트가 끊긴 서버(비정상 종료, scale-in 등)를 찾아 큐를 정리할 수 있게 한다.
+ */
+@Repository
+public class NotificationNodeRepository {
+
+    private static final String NODES_KEY = "notification:nodes";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public NotificationNodeRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void save(String serverId, long expiresAt) {
+        redisTemplate.opsForZSet().add(NODES_KEY, serverId, expiresAt);
+    }
+
+    public void delete(String serverId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, serverId);
+    }
+
+    /**
+     * 하트비트가 now 이전에 만료된 서버 목록
+     */
+    public Set<String> findExpired(long now) {
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+        return (expired == null) ? Set.of() : expired;
+    }
+}
@@ -1,26 +1,35 @@
 package com.project.Teaming.global.sse.repository;
 
 import com.project.Teaming.global.sse.entity.Notification;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
     List<Notification> findByUserId(Long userId, Sort sort);
 
-    @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id IN :ids")
-    int markNotificationsAsRead(@Param("ids") List<Long> ids);
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.createdAt >= :since ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findAllByUserIdAndCreatedAtFrom(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") List<Long> userIds);
+
+    // 유저 본인의 알림만 대상으로 하며, 이미 읽은 알림은 제외해 실제로 바뀐 건수만 반환한다 (읽지 않은 알림 수 차감에 사용)
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
-    int deleteNotificationsByIds(@Param("ids") List<Long> ids);
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+    int markAsReadByUserIdAndIds(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 
-    @Query("SELECT n.id FROM Notification n WHERE n.id IN :ids AND n.user.id = :userId")
-    List<Long> findValidNotificationIds(@Param("ids") List<Long> ids, @Param("userId") Long userId);
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = :isRead")
+    int deleteByUserIdAndIds(@Param("userId") Long userId, @Param("ids") List<Long> ids, @Param("isRead") boolean isRead);
 
     @Modifying
     @Query("DELETE FROM Notification n WHERE n.user.id = :userId")
@@ -0,0 +1,11 @@
+package com.project.Teaming.global.sse.repository;
+
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    List<NotificationResponseDto> findNotificationsByCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorId,
+                                                            int size, String category, String type, boolean unreadOnly);
+}
@@ -0,0 +1,88 @@
+package com.project.Teaming.global.sse.repository;
+
+import static com.project.Teaming.global.sse.entity.QNotification.notification;
+
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import com.project.Teaming.global.sse.entity.NotificationType;
+import com.project.Teaming.global.sse.entity.QNotification;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    public NotificationRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * (createdAt, id) 키셋 기반 알림 내역 조회. (user_id, created_at, id) 인덱스를 역순으로 타며,
+     * Notification, User 엔티티를 로딩하지 않고 DTO 로 바로 매핑한다.
+     */
+    @Override
+    public List<NotificationResponseDto> findNotificationsByCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorId,
+                                                                   int size, String category, String type, boolean unreadOnly) {
+        QNotification n = notification;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        NotificationResponseDto.class,
+                        n.id,
+                        n.user.id,
+                        n.message,
+                        n.type,
+                        n.category,
+                        n.teamId,
+                        n.isRead,
+                        n.createdAt,
+                        n.template,
+                        n.actorId,
+                        n.param
+                ))
+                .from(n)
+                .where(
+                        n.user.id.eq(userId),
+                        cursorCondition(cursorCreatedAt, cursorId),
+                        categoryEq(category),
+                        typeEq(type),
+                        unreadOnly ? n.isRead.isFalse() : null
+                )
+                .orderBy(n.createdAt.desc(), n.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
+        QNotification n = notification;
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return n.createdAt.lt(cursorCreatedAt)
+                .or(n.createdAt.eq(cursorCreatedAt).and(n.id.lt(cursorId)));
+    }
+
+    // 템플릿 기반 알림은 category 컬럼이 비어 있으므로 해당 카테고리의 템플릿으로도 찾는다
+    private BooleanExpression categoryEq(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return templateOr(notification.category.eq(category), NotificationType.findAllByCategory(category));
+    }
+
+    private BooleanExpression typeEq(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        return templateOr(notification.type.eq(type), NotificationType.findAllByTitle(type));
+    }
+
+    private BooleanExpression templateOr(BooleanExpression legacyCondition, List<NotificationType> templates) {
+        return templates.isEmpty() ? legacyCondition : legacyCondition.or(notification.template.in(templates));
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.Teaming.global.sse.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유저별 SSE 연결이 있는 서버 목록 (Redis db 3번).
+ * sorted set 의 score 에 만료 시각을 두어, 하트비트가 끊긴 서버(비정상 종료 등)는 조회에서 자동으로 제외된다.
+ */
+@Repository
+public class PresenceRepository {
+
+    private static final String PRESENCE_KEY = "sse:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public PresenceRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 유저들이 serverId 에 연결되어 있음을 기록한다. (구독, 하트비트)
+     */
+    public void saveAll(Collection<Long> userIds, String serverId, long expiresAt, Duration keyTtl) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                String key = PRESENCE_KEY + userId;
+                stringConnection.zAdd(key, expiresAt, serverId);
+                stringConnection.expire(key, keyTtl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    public void delete(Long userId, String serverId) {
+        redisTemplate.opsForZSet().remove(PRESENCE_KEY + userId, serverId);
+    }
+
+    /**
+     * 유저별로 연결이 살아있는 서버 목록을 조회한다. 연결된 서버가 없는 유저는 결과에 포함되지 않는다.
+     */
+    public Map<Long, List<String>> findAliveServers(List<Long> userIds, long now) {
+        Map<Long, List<String>> servers = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return servers;
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            userIds.forEach(userId -> stringConnection.zRangeByScore(PRESENCE_KEY + userId, now, Double.POSITIVE_INFINITY));
+            return null;
+        });
+        for (int i = 0; i < userIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Set<String> alive = (Set<String>) results.get(i);
+            if (alive != null && !alive.isEmpty()) {
+                servers.put(userIds.get(i), new ArrayList<>(alive));
+            }
+        }
+        return servers;
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.Teaming.global.sse.repository;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 서버에서 같은 스케줄 작업이 동시에 실행되지 않도록 하는 잠금 (Redis db 3번, ttl 후 자동 해제)
+ */
+@Repository
+public class SchedulerLockRepository {
+
+    private static final String LOCK_KEY = "scheduler:lock:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SchedulerLockRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean tryLock(String name, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY + name, "1", ttl));
+    }
+}
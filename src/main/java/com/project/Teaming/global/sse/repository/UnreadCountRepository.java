@@ -0,0 +1,143 @@
+package com.project.Teaming.global.sse.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유저별 읽지 않은 알림 수 (Redis db 3번).
+ * 키가 없으면 "모름" 상태로 보고 증감하지 않는다. 조회 시 DB 에서 한 번 세어 채우므로,
+ * 키가 있는 동안에는 증감만으로 정확한 값이 유지된다.
+ */
+@Slf4j
+@Repository
+public class UnreadCountRepository {
+
+    private static final String UNREAD_KEY = "notification:unread:";
+    private static final String RECONCILE_LOCK_KEY = "notification:unread-reconcile:lock";
+
+    // 키가 있을 때만 증감하고, 0 아래로는 내려가지 않는다
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+                    + "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if value < 0 then redis.call('SET', KEYS[1], 0) return 0 end "
+                    + "return value", Long.class);
+
+    // 보정 중 다른 요청이 값을 바꿨다면 덮어쓰지 않는다
+    private static final RedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2]) return 1 end "
+                    + "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public UnreadCountRepository(@Qualifier("notificationRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Long find(Long userId) {
+        String value = redisTemplate.opsForValue().get(UNREAD_KEY + userId);
+        return (value == null) ? null : Long.parseLong(value);
+    }
+
+    /**
+     * 여러 유저의 값을 한 번에 조회한다. 값이 없는 유저는 결과에 포함되지 않는다.
+     */
+    public Map<Long, Long> findAll(List<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        List<String> keys = userIds.stream().map(userId -> UNREAD_KEY + userId).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return counts;
+        }
+        for (int i = 0; i < userIds.size(); i++) {
+            if (values.get(i) != null) {
+                counts.put(userIds.get(i), Long.parseLong(values.get(i)));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 키가 없을 때만 값을 채운다. (동시에 다른 요청이 채웠다면 그 값을 유지)
+     */
+    public void saveIfAbsent(Long userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(UNREAD_KEY + userId, String.valueOf(count));
+    }
+
+    public void add(Long userId, long delta) {
+        redisTemplate.execute(ADD_IF_PRESENT, List.of(UNREAD_KEY + userId), String.valueOf(delta));
+    }
+
+    /**
+     * 유저별 증감을 파이프라인으로 한 번에 반영한다.
+     */
+    public void addAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            deltas.forEach((userId, delta) -> stringConnection.eval(ADD_IF_PRESENT.getScriptAsString(),
+                    ReturnType.INTEGER, 1, UNREAD_KEY + userId, String.valueOf(delta)));
+            return null;
+        });
+    }
+
+    public boolean replaceIfUnchanged(Long userId, String expected, long count) {
+        Long result = redisTemplate.execute(SET_IF_UNCHANGED, List.of(UNREAD_KEY + userId), expected, String.valueOf(count));
+        return result != null && result == 1L;
+    }
+
+    public void delete(Long userId) {
+        redisTemplate.delete(UNREAD_KEY + userId);
+    }
+
+    /**
+     * 여러 서버 중 한 곳만 보정 작업을 수행하도록 잠금을 획득한다. (ttl 후 자동 해제)
+     */
+    public boolean tryLockReconcile(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1", ttl));
+    }
+
+    /**
+     * 값이 채워져 있는 유저 id 를 chunkSize 단위로 넘겨준다. (SCAN 기반이라 Redis 를 오래 막지 않는다)
+     */
+    public void scanUserIds(int chunkSize, Consumer<List<Long>> chunkConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(UNREAD_KEY + "*").count(chunkSize).build();
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    chunk.add(Long.parseLong(key.substring(UNREAD_KEY.length())));
+                } catch (NumberFormatException e) {
+                    continue;  // 같은 prefix 를 쓰는 다른 키
+                }
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.project.Teaming.global.sse.scheduler;
+
+import com.project.Teaming.global.sse.repository.SchedulerLockRepository;
+import com.project.Teaming.global.sse.service.UnreadCountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 알림 삭제.
+ * 읽은 알림은 read-retention-days, 읽지 않은 알림은 unread-retention-days 가 지나면 삭제한다.
+ * id 가 생성 시각 순인 TSID 이므로 두 기준 시각 중 늦은 쪽의 id 미만 구간에서, 삭제 대상인 가장 작은 id 부터
+ * 삭제 대상 행만 PK 순서로 chunk-size 개씩 잘라 삭제하고, chunk 마다 트랜잭션을 끝내고 잠시 쉬어 잠금을 오래 잡지 않는다.
+ * 보관 중인 읽지 않은 알림이 앞 구간에 남아 있어도 매번 처음부터 다시 훑지 않는다. (idx_notification_read_created 사용)
+ * (TSID 이전의 IDENTITY id 행도 created_at 조건으로 함께 정리된다)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationPurgeScheduler {
+
+    private static final String LOCK_NAME = "notification-purge";
+    private static final long TSID_EPOCH_MILLIS = 1577836800000L;  // 2020-01-01T00:00:00Z
+    private static final int TSID_RANDOM_BITS = 22;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCountService unreadCountService;
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.purge.read-retention-days:90}")  // 읽은 알림 보관 기간
+    private int readRetentionDays;
+
+    @Value("${notification.purge.unread-retention-days:365}")  // 읽지 않은 알림 보관 기간 (0 이면 삭제하지 않음)
+    private int unreadRetentionDays;
+
+    @Value("${notification.purge.chunk-size:1000}")  // 한 트랜잭션에서 확인할 최대 행 수
+    private int chunkSize;
+
+    @Value("${notification.purge.pause-ms:100}")  // chunk 사이 대기 시간
+    private long pauseMs;
+
+    @Value("${notification.purge.max-duration-minutes:30}")  // 한 번 실행의 최대 시간 (남은 행은 다음 실행에서 삭제)
+    private long maxDurationMinutes;
+
+    private Counter deletedRows;
+    private Timer purgeDuration;
+
+    @PostConstruct
+    public void init() {
+        deletedRows = Counter.builder("notification.purge.deleted")
+                .description("보관 기간이 지나 삭제된 알림 수")
+                .register(meterRegistry);
+        purgeDuration = Timer.builder("notification.purge.duration")
+                .description("알림 보관 기간 정리 작업 수행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.purge.cron:0 30 4 * * *}")  // 기본 매일 새벽 4시 30분
+    public void purge() {
+        if (!schedulerLockRepository.tryLock(LOCK_NAME, Duration.ofMinutes(maxDurationMinutes + 5))) {
+            return;  // 다른 서버에서 수행 중
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readCutoff = now.minusDays(readRetentionDays);
+        LocalDateTime unreadCutoff = (unreadRetentionDays > 0) ? now.minusDays(unreadRetentionDays) : null;
+        // 이 id 이상은 두 기준 시각 이후에 생성된 알림
+        long maxId = minTsidAt((unreadCutoff != null && unreadCutoff.isAfter(readCutoff)) ? unreadCutoff : readCutoff);
+        String expired = (unreadCutoff == null)
+                ? "is_read = true AND created_at < ?"
+                : "((is_read = true AND created_at < ?) OR created_at < ?)";
+        Object[] cutoffs = (unreadCutoff == null)
+                ? new Object[]{Timestamp.valueOf(readCutoff)}
+                : new Object[]{Timestamp.valueOf(readCutoff), Timestamp.valueOf(unreadCutoff)};
+
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM notification WHERE id < ? AND " + expired,
+                Long.class, args(maxId, cutoffs));
+        if (minId == null) {
+            return;  // 보관 기간이 지난 알림 없음
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MINUTES.toNanos(maxDurationMinutes);
+        long lastId = minId - 1;
+        long deleted = 0;
+        int chunks = 0;
+        try {
+            while (System.nanoTime() < deadline) {
+                List<Long> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM notification WHERE id > ? AND id < ? AND " + expired + " ORDER BY id LIMIT ?",
+                        Long.class, args(lastId, maxId, cutoffs, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long toId = ids.get(ids.size() - 1);
+                deleted += deleteRange(lastId, toId, readCutoff, unreadCutoff);
+                lastId = toId;
+                chunks++;
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ 알림 보관 기간 정리 실패: lastId={}, error={}", lastId, e.getMessage(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            purgeDuration.record(elapsed, TimeUnit.NANOSECONDS);
+            deletedRows.increment(deleted);
+            log.info("🧹 알림 보관 기간 정리: deleted={}, chunks={}, duration={}ms", deleted, chunks, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    // (fromId, toId] 구간에서 보관 기간이 지난 알림을 삭제한다. 읽지 않은 알림이 삭제되면 카운터도 줄인다
+    private int deleteRange(long fromId, long toId, LocalDateTime readCutoff, LocalDateTime unreadCutoff) {
+        Integer count = transactionTemplate.execute(status -> {
+            if (unreadCutoff == null) {
+                return jdbcTemplate.update(
+                        "DELETE FROM notification WHERE id > ? AND id <= ? AND is_read = true AND created_at < ?",
+                        fromId, toId, Timestamp.valueOf(readCutoff));
+            }
+
+            Map<Long, Long> unreadDeleted = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT user_id, COUNT(*) FROM notification WHERE id > ? AND id <= ? AND is_read = false AND created_at < ? GROUP BY user_id",
+                    rs -> {
+                        unreadDeleted.put(rs.getLong(1), rs.getLong(2));
+                    },
+                    fromId, toId, Timestamp.valueOf(unreadCutoff));
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM notification WHERE id > ? AND id <= ? AND ((is_read = true AND created_at < ?) OR created_at < ?)",
+                    fromId, toId, Timestamp.valueOf(readCutoff), Timestamp.valueOf(unreadCutoff));
+            unreadCountService.decrease(unreadDeleted);
+            return deleted;
+        });
+        return (count == null) ? 0 : count;
+    }
+
+    // 기준 시각 배열을 펼쳐 순서대로 JdbcTemplate 인자로 만든다
+    private Object[] args(Object... values) {
+        List<Object> args = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof Object[] array) {
+                args.addAll(Arrays.asList(array));
+            } else {
+                args.add(value);
+            }
+        }
+        return args.toArray();
+    }
+
+    // 해당 시각에 생성될 수 있는 가장 작은 TSID (상위 42bit = TSID epoch 이후 밀리초)
+    private long minTsidAt(LocalDateTime dateTime) {
+        long millis = dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(0, millis - TSID_EPOCH_MILLIS) << TSID_RANDOM_BITS;
+    }
+}
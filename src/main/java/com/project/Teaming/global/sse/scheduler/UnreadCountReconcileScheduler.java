@@ -0,0 +1,67 @@
+package com.project.Teaming.global.sse.scheduler;
+
+import com.project.Teaming.global.sse.repository.BroadcastNotificationRepository;
+import com.project.Teaming.global.sse.repository.NotificationRepository;
+import com.project.Teaming.global.sse.repository.UnreadCountRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 의 읽지 않은 알림 수를 notification 테이블과 브로드캐스트 알림 기준으로 보정한다.
+ * 카운터가 있는 유저만 chunk 단위로 DB 에서 세어 비교하고, 그 사이 값이 바뀐 유저는 건너뛴다. (다음 주기에 다시 확인)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UnreadCountReconcileScheduler {
+
+    private final UnreadCountRepository unreadCountRepository;
+    private final NotificationRepository notificationRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+
+    @Value("${notification.unread.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${notification.unread.reconcile-cron:0 */30 * * * *}")  // 기본 30분마다 확인
+    public void reconcile() {
+        if (!unreadCountRepository.tryLockReconcile(Duration.ofMinutes(10))) {
+            return;  // 다른 서버에서 수행 중
+        }
+        int[] repaired = {0};
+        unreadCountRepository.scanUserIds(chunkSize, userIds -> repaired[0] += reconcileChunk(userIds));
+        if (repaired[0] > 0) {
+            log.info("읽지 않은 알림 수 보정: {}명", repaired[0]);
+        }
+    }
+
+    private int reconcileChunk(List<Long> userIds) {
+        // DB 조회 전 값을 먼저 읽어, 조회 도중 증감된 카운터는 덮어쓰지 않는다
+        Map<Long, Long> before = unreadCountRepository.findAll(userIds);
+
+        Map<Long, Long> actual = new HashMap<>();
+        notificationRepository.countUnreadByUserIds(userIds)
+                .forEach(row -> actual.put((Long) row[0], (Long) row[1]));
+        broadcastNotificationRepository.countUnreadByUserIds(userIds)
+                .forEach((userId, count) -> actual.merge(userId, count, Long::sum));
+
+        int repaired = 0;
+        for (Long userId : userIds) {
+            Long expected = before.get(userId);
+            long count = actual.getOrDefault(userId, 0L);
+            if (expected == null || expected == count) {
+                continue;
+            }
+            if (unreadCountRepository.replaceIfUnchanged(userId, String.valueOf(expected), count)) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
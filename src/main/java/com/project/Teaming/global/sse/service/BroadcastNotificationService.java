@@ -0,0 +1,150 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.dto.BroadcastMembership;
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import com.project.Teaming.global.sse.entity.BroadcastAudience;
+import com.project.Teaming.global.sse.entity.BroadcastNotification;
+import com.project.Teaming.global.sse.entity.NotificationType;
+import com.project.Teaming.global.sse.repository.BroadcastNotificationRepository;
+import com.project.Teaming.global.sse.repository.BroadcastNotificationStateRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 전체/전체 유저 대상 알림 (fan-out-on-read).
+ * 저장은 메시지 한 행으로 끝나고, 수신자별 읽음/삭제 상태는 처리한 유저만 기록한다.
+ * 실시간 전송이 필요한 팀 알림은 호출 측이 아는 수신자에게만 기존 이벤트 흐름으로 SSE 를 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastNotificationService {
+
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastNotificationStateRepository broadcastNotificationStateRepository;
+    private final UnreadCountService unreadCountService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 팀 알림 저장 및 전송
+     * @param targetRole 팀 안에서 대상 역할 (ProjectRole/MentoringAuthority 이름). 팀원 전체면 null
+     * @param recipientIds 실시간으로 전송하고 읽지 않은 알림 수를 늘릴 팀원 id. targetRole 과 같은 기준으로 조회한 대상이어야 한다
+     */
+    @Transactional
+    public BroadcastNotification sendTeamBroadcast(BroadcastAudience audience, Long teamId, String targetRole, List<Long> recipientIds,
+                                                   String message, NotificationType type) {
+        BroadcastNotification broadcast = broadcastNotificationRepository.save(new BroadcastNotification(audience, teamId, targetRole, message, type));
+        if (!recipientIds.isEmpty()) {
+            unreadCountService.increase(recipientIds);
+            // 커밋 시 outbox 에 기록되어 개인 알림과 같은 경로로 전송된다
+            eventPublisher.publishEvent(NotificationEvent.of(recipientIds.stream()
+                    .map(userId -> NotificationMessage.of(broadcast, userId))
+                    .toList()));
+        }
+        return broadcast;
+    }
+
+    /**
+     * 전체 유저 대상 공지 저장. 행은 한 건만 생기며, 유저는 알림 조회 시 확인한다.
+     * 읽지 않은 알림 수는 카운터가 채워진 유저만 늘리고, 나머지는 다음 조회 때 DB 에서 센다.
+     */
+    @Transactional
+    public BroadcastNotification sendGlobalBroadcast(String message, NotificationType type) {
+        BroadcastNotification broadcast = broadcastNotificationRepository.save(new BroadcastNotification(BroadcastAudience.ALL, null, message, type));
+        unreadCountService.increaseAllCached();
+        log.info("전체 공지 저장: id={}", broadcast.getId());
+        return broadcast;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationResponseDto> findNotifications(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, Integer size,
+                                                           String category, String type, boolean unreadOnly) {
+        return broadcastNotificationRepository.findBroadcastsByCursor(userId, findMemberships(userId),
+                cursorCreatedAt, cursorId, size, category, type, unreadOnly);
+    }
+
+    /**
+     * since 이후 생성된, 유저에게 보이는 읽지 않은 브로드캐스트 알림의 전송 메시지 (SSE 재연결 재전송용)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationMessage> findUnreadMessagesFrom(Long userId, LocalDateTime since, int size) {
+        return broadcastNotificationRepository.findUnreadBroadcastsFrom(userId, findMemberships(userId), since, size).stream()
+                .map(broadcast -> NotificationMessage.of(broadcast, userId))
+                .toList();
+    }
+
+    /**
+     * ids 중 유저에게 보이는 브로드캐스트 알림 id.
+     * 개인 알림 id 만 들어온 요청은 PK 조회 한 번으로 끝내고 참여 정보는 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findVisibleIds(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> broadcastIds = broadcastNotificationRepository.findExistingIds(ids);
+        if (broadcastIds.isEmpty()) {
+            return List.of();
+        }
+        return broadcastNotificationRepository.findVisibleIds(userId, findMemberships(userId), broadcastIds, false);
+    }
+
+    /**
+     * 읽음 처리
+     * @param ids 유저에게 보이는 브로드캐스트 알림 id
+     * @return 새로 읽음 처리된 알림 수
+     */
+    @Transactional
+    public long markAsRead(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return broadcastNotificationStateRepository.markAsRead(userId, ids);
+    }
+
+    /**
+     * 유저의 알림 목록에서 삭제 (다른 수신자에게는 그대로 보인다)
+     * 읽지 않은 알림은 상태 행을 새로 만들고 읽은 알림은 있는 행을 고쳐야 해서, 읽음 여부별로 한 문장씩 실행한다.
+     * 첫 문장이 만든 행 수가 그대로 읽지 않은 알림 수가 된다.
+     * @param ids 유저에게 보이는 브로드캐스트 알림 id
+     * @return 삭제된 알림 중 읽지 않았던 알림 수
+     */
+    @Transactional
+    public long delete(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int unreadCount = broadcastNotificationStateRepository.markUnreadAsDeleted(userId, ids);
+        broadcastNotificationStateRepository.markReadAsDeleted(userId, ids);
+        return unreadCount;
+    }
+
+    /**
+     * 모든 알림 읽음 처리 작업의 한 chunk (maxId 이하, 최대 limit 개)
+     * @return 새로 읽음 처리된 알림 수
+     */
+    @Transactional
+    public long markAllAsRead(Long userId, long maxId, int limit) {
+        return broadcastNotificationRepository.markAllAsRead(userId, findMemberships(userId), maxId, limit);
+    }
+
+    /**
+     * 읽은 알림 모두 삭제 작업의 한 chunk (maxId 이하, 최대 limit 개)
+     * @return 삭제된 알림 수
+     */
+    @Transactional
+    public long deleteAllRead(Long userId, long maxId, int limit) {
+        return broadcastNotificationStateRepository.deleteAllRead(userId, maxId, limit);
+    }
+
+    private List<BroadcastMembership> findMemberships(Long userId) {
+        return broadcastNotificationRepository.findMemberships(List.of(userId));
+    }
+}
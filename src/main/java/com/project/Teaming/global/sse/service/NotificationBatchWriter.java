@@ -0,0 +1,87 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.sse.entity.Notification;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 일괄 저장.
+ * 호출한 트랜잭션 안에서 알림을 다중 행 INSERT 로 저장하고 NotificationEvent 를 발행한다.
+ * 이벤트는 같은 트랜잭션의 커밋 직전에 outbox 에 기록되므로, 커밋된 알림은 직후에 서버가 죽어도 전송 대상으로 남는다.
+ * 여러 요청의 전송은 outbox relay 가 모아서 한 번에 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO notification (id, user_id, message, team_id, type, category, template, actor_id, param, is_read, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 11;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCountService unreadCountService;
+    private final NotificationRenderer notificationRenderer;
+
+    @Value("${notification.writer.max-batch-size:500}")  // 한 번의 INSERT 에 담을 최대 행 수
+    private int maxBatchSize;
+
+    /**
+     * 호출한 트랜잭션에 알림 저장과 이벤트 발행을 함께 묶는다. 롤백되면 알림도 이벤트도 남지 않는다.
+     * 트랜잭션 밖에서 호출되면 새 트랜잭션에서 저장한다. (트랜잭션이 없으면 outbox 기록이 실행되지 않는다)
+     */
+    public void write(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            save(notifications);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> save(notifications));
+        }
+    }
+
+    // 읽지 않은 알림 수 증가는 커밋 이후에, outbox 기록은 커밋 직전에 실행된다
+    private void save(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += maxBatchSize) {
+            insert(notifications.subList(from, Math.min(from + maxBatchSize, notifications.size())));
+        }
+        unreadCountService.increase(notifications.stream().map(notification -> notification.getUser().getId()).toList());
+        eventPublisher.publishEvent(NotificationEvent.of(notificationRenderer.toMessages(notifications)));
+    }
+
+    private void insert(List<Notification> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL.length() + rows.size() * (ROW_PLACEHOLDER.length() + 1));
+        sql.append(INSERT_SQL);
+        Object[] args = new Object[rows.size() * COLUMN_COUNT];
+        int index = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Notification notification = rows.get(i);
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[index++] = notification.getId();
+            args[index++] = notification.getUser().getId();
+            args[index++] = notification.getMessage();
+            args[index++] = notification.getTeamId();
+            args[index++] = notification.getType();
+            args[index++] = notification.getCategory();
+            args[index++] = (notification.getTemplate() == null) ? null : notification.getTemplate().getCode();
+            args[index++] = notification.getActorId();
+            args[index++] = notification.getParam();
+            args[index++] = notification.isRead();
+            args[index++] = Timestamp.valueOf(notification.getCreatedAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -0,0 +1,176 @@
+package com.project.Teaming.global.sse.service;
+
+import com.github.f4b6a3.tsid.TsidCreator;
+import com.project.Teaming.global.error.ErrorCode;
+import com.project.Teaming.global.error.exception.BusinessException;
+import com.project.Teaming.global.sse.dto.NotificationJobResponse;
+import com.project.Teaming.global.sse.entity.NotificationJobStatus;
+import com.project.Teaming.global.sse.entity.NotificationJobType;
+import com.project.Teaming.global.sse.repository.NotificationJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모든 알림 읽음 처리 / 읽은 알림 모두 삭제 작업.
+ * 알림이 많은 유저도 요청을 오래 붙잡지 않도록 작업 id 만 바로 반환하고, 백그라운드에서 chunk-size 개씩 나눠 처리한다.
+ * chunk 마다 트랜잭션을 끝내므로 잠금을 오래 잡지 않으며, 요청 시점 이후에 생성된 알림은 대상에서 제외한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationBulkJobService {
+
+    private static final String MARK_AS_READ_SQL = "UPDATE notification SET is_read = true WHERE user_id = ? AND id <= ? AND is_read = false LIMIT ?";
+    private static final String DELETE_READ_SQL = "DELETE FROM notification WHERE user_id = ? AND id <= ? AND is_read = true LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationJobRepository notificationJobRepository;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final UnreadCountService unreadCountService;
+
+    @Value("${notification.bulk.threads:2}")  // 동시에 실행할 작업 수
+    private int threads;
+
+    @Value("${notification.bulk.chunk-size:1000}")  // 한 트랜잭션에서 처리할 최대 알림 수
+    private int chunkSize;
+
+    @Value("${notification.bulk.pause-ms:50}")  // chunk 사이 대기 시간
+    private long pauseMs;
+
+    @Value("${notification.bulk.job-ttl-hours:24}")  // 작업 상태 보관 기간
+    private long jobTtlHours;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicLong sequence = new AtomicLong();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-bulk-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();  // 중단된 작업은 FAILED 로 남고, 다시 요청하면 남은 알림부터 처리된다
+    }
+
+    /**
+     * 작업을 시작하고 바로 반환한다. 같은 종류의 작업이 진행 중이면 새로 시작하지 않고 그 작업을 반환한다.
+     */
+    public NotificationJobResponse start(Long userId, NotificationJobType type) {
+        String jobId = UUID.randomUUID().toString();
+        String runningJobId = notificationJobRepository.saveIfNotRunning(jobId, userId, type, Duration.ofHours(jobTtlHours));
+        if (runningJobId != null) {
+            return find(userId, runningJobId);
+        }
+
+        long maxId = TsidCreator.getTsid().toLong();  // 요청 시점까지 생성된 알림만 처리
+        try {
+            executor.execute(() -> run(jobId, userId, type, maxId));
+        } catch (RejectedExecutionException e) {
+            notificationJobRepository.finish(jobId, userId, type, NotificationJobStatus.FAILED);
+            return find(userId, jobId);
+        }
+        return new NotificationJobResponse(jobId, type, NotificationJobStatus.RUNNING, 0);
+    }
+
+    /**
+     * 작업 상태 조회. 다른 유저의 작업이거나 만료된 작업이면 찾을 수 없다.
+     */
+    public NotificationJobResponse find(Long userId, String jobId) {
+        Map<String, String> job = notificationJobRepository.find(jobId);
+        if (job.isEmpty() || !String.valueOf(userId).equals(job.get("userId"))) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_NOTIFICATION_JOB);
+        }
+        return new NotificationJobResponse(jobId,
+                NotificationJobType.valueOf(job.get("type")),
+                NotificationJobStatus.valueOf(job.get("status")),
+                Long.parseLong(job.getOrDefault("processed", "0")));
+    }
+
+    private void run(String jobId, Long userId, NotificationJobType type, long maxId) {
+        NotificationJobStatus status = NotificationJobStatus.COMPLETED;
+        try {
+            if (type == NotificationJobType.MARK_ALL_READ) {
+                markAllAsRead(jobId, userId, maxId);
+            } else {
+                deleteAllRead(jobId, userId, maxId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = NotificationJobStatus.FAILED;
+        } catch (Exception e) {
+            log.error("❌ 알림 일괄 처리 실패: jobId={}, userId={}, type={}, error={}", jobId, userId, type, e.getMessage(), e);
+            status = NotificationJobStatus.FAILED;
+        } finally {
+            notificationJobRepository.finish(jobId, userId, type, status);
+        }
+    }
+
+    // 개인 알림, 브로드캐스트 알림 순으로 테이블마다 조건부 UPDATE 한 문장을 chunk 단위로 반복한다
+    private void markAllAsRead(String jobId, Long userId, long maxId) throws InterruptedException {
+        long updated;
+        do {
+            updated = executeChunk(userId, true, () -> jdbcTemplate.update(MARK_AS_READ_SQL, userId, maxId, chunkSize));
+            notificationJobRepository.addProcessed(jobId, updated);
+            pause();
+        } while (updated == chunkSize);
+
+        do {
+            updated = executeChunk(userId, true, () -> broadcastNotificationService.markAllAsRead(userId, maxId, chunkSize));
+            notificationJobRepository.addProcessed(jobId, updated);
+            pause();
+        } while (updated == chunkSize);
+    }
+
+    private void deleteAllRead(String jobId, Long userId, long maxId) throws InterruptedException {
+        long deleted;
+        do {
+            deleted = executeChunk(userId, false, () -> jdbcTemplate.update(DELETE_READ_SQL, userId, maxId, chunkSize));
+            notificationJobRepository.addProcessed(jobId, deleted);
+            pause();
+        } while (deleted == chunkSize);
+
+        do {
+            deleted = executeChunk(userId, false, () -> broadcastNotificationService.deleteAllRead(userId, maxId, chunkSize));
+            notificationJobRepository.addProcessed(jobId, deleted);
+            pause();
+        } while (deleted == chunkSize);
+    }
+
+    // 한 chunk 를 별도 트랜잭션으로 처리한다. 읽지 않은 알림이 바뀌었으면 커밋 후 카운터도 줄인다
+    private long executeChunk(Long userId, boolean changesUnread, LongSupplier chunk) {
+        Long count = transactionTemplate.execute(status -> {
+            long changed = chunk.getAsLong();
+            if (changesUnread) {
+                unreadCountService.decrease(userId, changed);
+            }
+            return changed;
+        });
+        return (count == null) ? 0 : count;
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) {
+            Thread.sleep(pauseMs);
+        }
+    }
+}
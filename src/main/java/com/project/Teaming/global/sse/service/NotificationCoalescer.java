@@ -0,0 +1,127 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.sse.entity.NotificationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 같은 (수신자, 알림 타입, 팀) 으로 짧은 시간에 몰리는 알림을 하나로 합친다.
+ * 첫 알림이 들어온 뒤 window 동안 들어온 알림을 모아, 한 건이면 원래 템플릿으로, 여러 건이면 합친 수를 파라미터로 담은
+ * 요약 템플릿(NotificationType#getDigestTemplate) 알림 하나로 저장/전송한다.
+ * (인기 팀에 참가 신청이 몰릴 때 팀장에게 신청마다 알림 행과 SSE 프레임이 생기지 않도록)
+ * 서버별로 모으므로 여러 서버로 요청이 나뉘면 서버마다 한 건씩 전송될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final Map<CoalesceKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Value("${notification.coalesce.window-ms:3000}")  // 0 이면 합치지 않고 바로 전송
+    private long windowMs;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        // 종료 시점에 모으던 알림은 버리지 않고 바로 전송한다
+        new ArrayList<>(buckets.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * 호출한 트랜잭션이 커밋된 뒤 합치기 대상에 추가한다. 롤백된 요청의 알림은 전송되지 않는다.
+     * @param actorId 알림을 발생시킨 유저. 요약 알림에는 첫 유저가 표시된다
+     */
+    public void submit(Long userId, Long teamId, NotificationType type, Long actorId) {
+        CoalesceKey key = new CoalesceKey(userId, type, teamId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(key, actorId);
+                }
+            });
+        } else {
+            add(key, actorId);
+        }
+    }
+
+    private void add(CoalesceKey key, Long actorId) {
+        if (windowMs <= 0 || key.type().getDigestTemplate() == null) {
+            notificationService.sendNotification(key.userId(), key.teamId(), key.type(), actorId, null);
+            return;
+        }
+        boolean[] created = {false};
+        buckets.compute(key, (k, bucket) -> {
+            if (bucket == null) {
+                created[0] = true;
+                return new Bucket(actorId);
+            }
+            bucket.count++;
+            return bucket;
+        });
+        if (created[0]) {
+            try {
+                scheduler.schedule(() -> flush(key), windowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flush(key);  // 종료 중
+            }
+        }
+    }
+
+    private void flush(CoalesceKey key) {
+        Bucket bucket = buckets.remove(key);
+        if (bucket == null) {
+            return;
+        }
+        try {
+            notificationService.sendNotification(key.userId(), key.teamId(), key.type(), bucket.actorId,
+                    (bucket.count == 1) ? null : bucket.count);
+            if (bucket.count > 1) {
+                log.info("알림 {}건을 하나로 합쳐 전송: userId={}, type={}, teamId={}", bucket.count, key.userId(), key.type(), key.teamId());
+            }
+        } catch (Exception e) {
+            log.error("❌ 합친 알림 전송 실패: userId={}, type={}, count={}", key.userId(), key.type(), bucket.count, e);
+        }
+    }
+
+    private record CoalesceKey(Long userId, NotificationType type, Long teamId) {
+    }
+
+    // compute 안에서만 변경된다
+    private static class Bucket {
+
+        private final Long actorId;
+        private int count = 1;
+
+        Bucket(Long actorId) {
+            this.actorId = actorId;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.connection.DeliveryTrace;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전달 단계별 지연 기록 (notification.pipeline.latency, stage/lane 태그).
+ * 생성 → 커밋 후 발행(publish) → 서버 도착(transport) → 소켓 flush(delivery) 와 전체(total) 구간을 히스토그램으로 남긴다.
+ * 서버 간 시각 차이만큼 오차가 있을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationLatencyRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Stage, Map<NotificationLane, Timer>> timers = new EnumMap<>(Stage.class);
+
+    private enum Stage {
+        PUBLISH,    // 알림 생성 → 커밋 후 전달 경로로 발행 (outbox relay 포함)
+        TRANSPORT,  // 발행 → 수신 서버 도착
+        DELIVERY,   // 서버 도착 → SSE 소켓 flush
+        TOTAL       // 알림 생성 → SSE 소켓 flush
+    }
+
+    @PostConstruct
+    public void init() {
+        for (Stage stage : Stage.values()) {
+            Map<NotificationLane, Timer> laneTimers = new EnumMap<>(NotificationLane.class);
+            for (NotificationLane lane : NotificationLane.values()) {
+                laneTimers.put(lane, Timer.builder("notification.pipeline.latency")
+                        .description("알림 전달 단계별 지연")
+                        .tag("stage", stage.name().toLowerCase())
+                        .tag("lane", lane.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            timers.put(stage, laneTimers);
+        }
+    }
+
+    /**
+     * 서버에 도착한 알림의 발행/전송 구간을 기록하고, flush 때 이어서 기록할 수 있도록 단계별 시각을 반환한다.
+     * @param publishedAt 이벤트 발행 시각. 이전 버전 이벤트면 null
+     * @return 생성 시각을 해석할 수 없으면 null
+     */
+    public DeliveryTrace recordReceived(NotificationMessage notification, Long publishedAt, long receivedAt) {
+        long createdAt;
+        try {
+            createdAt = LocalDateTime.parse(notification.getCreatedAt()).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException | NullPointerException e) {
+            return null;
+        }
+        NotificationLane lane = NotificationLane.fromTitle(notification.getType());
+        if (publishedAt != null) {
+            record(Stage.PUBLISH, lane, publishedAt - createdAt);
+            record(Stage.TRANSPORT, lane, receivedAt - publishedAt);
+        }
+        return new DeliveryTrace(lane, createdAt, publishedAt, receivedAt);
+    }
+
+    public void recordFlushed(DeliveryTrace trace, long flushedAt) {
+        record(Stage.DELIVERY, trace.lane(), flushedAt - trace.receivedAt());
+        record(Stage.TOTAL, trace.lane(), flushedAt - trace.createdAt());
+    }
+
+    private void record(Stage stage, NotificationLane lane, long millis) {
+        timers.get(stage).get(lane).record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+    }
+}
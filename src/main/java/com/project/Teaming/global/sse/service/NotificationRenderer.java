@@ -0,0 +1,175 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.domain.mentoring.repository.MentoringTeamRepository;
+import com.project.Teaming.domain.project.repository.ProjectTeamRepository;
+import com.project.Teaming.domain.user.repository.UserRepository;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.dto.NotificationResponseDto;
+import com.project.Teaming.global.sse.entity.Notification;
+import com.project.Teaming.global.sse.entity.NotificationType;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 템플릿 기반 알림의 메시지를 만든다.
+ * 유저/팀 이름은 로컬 캐시(TTL)에서 찾고, 없는 것만 묶어서 한 번에 조회한다.
+ * 팀 이름이 바뀌면 캐시가 만료된 뒤부터 바뀐 이름으로 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRenderer {
+
+    private static final String UNKNOWN_NAME = "(알 수 없음)";
+
+    private final UserRepository userRepository;
+    private final ProjectTeamRepository projectTeamRepository;
+    private final MentoringTeamRepository mentoringTeamRepository;
+
+    @Value("${notification.render.name-cache-ttl-ms:300000}")  // 이름 캐시 유지 시간
+    private long nameCacheTtlMs;
+
+    @Value("${notification.render.name-cache-size:10000}")  // 종류별 최대 캐시 수 (넘으면 비운다)
+    private int nameCacheSize;
+
+    private NameCache userNames;
+    private NameCache projectTeamNames;
+    private NameCache mentoringTeamNames;
+
+    @PostConstruct
+    public void init() {
+        userNames = new NameCache(userRepository::findNamesByIds);
+        projectTeamNames = new NameCache(projectTeamRepository::findNamesByIds);
+        mentoringTeamNames = new NameCache(mentoringTeamRepository::findNamesByIds);
+    }
+
+    /**
+     * 전송용 메시지로 변환한다. 템플릿 도입 이전 알림은 저장된 메시지를 그대로 쓴다.
+     */
+    public List<NotificationMessage> toMessages(List<Notification> notifications) {
+        Names names = resolve(notifications.stream()
+                .filter(notification -> notification.getTemplate() != null)
+                .map(notification -> new RenderTarget(notification.getTemplate(), notification.getActorId(), notification.getTeamId()))
+                .toList());
+
+        List<NotificationMessage> messages = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            NotificationType template = notification.getTemplate();
+            if (template == null) {
+                messages.add(NotificationMessage.from(notification, notification.getType(), notification.getCategory(), notification.getMessage()));
+                continue;
+            }
+            String message = names.render(template, notification.getActorId(), notification.getTeamId(), notification.getParam());
+            messages.add(NotificationMessage.from(notification, template.getTitle(), template.getCategory(), message));
+        }
+        return messages;
+    }
+
+    /**
+     * 조회 결과의 메시지, 유형, 카테고리를 채운다.
+     */
+    public void render(List<NotificationResponseDto> notifications) {
+        Names names = resolve(notifications.stream()
+                .filter(notification -> notification.getTemplate() != null)
+                .map(notification -> new RenderTarget(notification.getTemplate(), notification.getActorId(), notification.getTeamId()))
+                .toList());
+
+        for (NotificationResponseDto notification : notifications) {
+            NotificationType template = notification.getTemplate();
+            if (template == null) {
+                continue;
+            }
+            notification.setMessage(names.render(template, notification.getActorId(), notification.getTeamId(), notification.getParam()));
+            notification.setType(template.getTitle());
+            notification.setCategory(template.getCategory());
+        }
+    }
+
+    private Names resolve(List<RenderTarget> targets) {
+        Set<Long> actorIds = new HashSet<>();
+        Set<Long> projectTeamIds = new HashSet<>();
+        Set<Long> mentoringTeamIds = new HashSet<>();
+        for (RenderTarget target : targets) {
+            if (target.actorId() != null) {
+                actorIds.add(target.actorId());
+            }
+            if (target.teamId() != null && target.template().isProject()) {
+                projectTeamIds.add(target.teamId());
+            } else if (target.teamId() != null && target.template().isMentoring()) {
+                mentoringTeamIds.add(target.teamId());
+            }
+        }
+        return new Names(userNames.findAll(actorIds), projectTeamNames.findAll(projectTeamIds), mentoringTeamNames.findAll(mentoringTeamIds));
+    }
+
+    private record RenderTarget(NotificationType template, Long actorId, Long teamId) {
+    }
+
+    private record Names(Map<Long, String> users, Map<Long, String> projectTeams, Map<Long, String> mentoringTeams) {
+
+        String render(NotificationType template, Long actorId, Long teamId, Integer param) {
+            String actorName = (actorId == null) ? null : users.getOrDefault(actorId, UNKNOWN_NAME);
+            String teamName = null;
+            if (teamId != null) {
+                Map<Long, String> teams = template.isProject() ? projectTeams : mentoringTeams;
+                teamName = teams.getOrDefault(teamId, UNKNOWN_NAME);
+            }
+            return template.render(actorName, teamName, param);
+        }
+    }
+
+    private record CachedName(String name, long expiresAt) {
+    }
+
+    private class NameCache {
+
+        private final Map<Long, CachedName> names = new ConcurrentHashMap<>();
+        private final Function<Collection<Long>, List<Object[]>> loader;
+
+        NameCache(Function<Collection<Long>, List<Object[]>> loader) {
+            this.loader = loader;
+        }
+
+        Map<Long, String> findAll(Set<Long> ids) {
+            Map<Long, String> result = new HashMap<>();
+            if (ids.isEmpty()) {
+                return result;
+            }
+            long now = System.currentTimeMillis();
+            List<Long> misses = new ArrayList<>();
+            for (Long id : ids) {
+                CachedName cached = names.get(id);
+                if (cached != null && cached.expiresAt() > now) {
+                    result.put(id, cached.name());
+                } else {
+                    misses.add(id);
+                }
+            }
+            if (misses.isEmpty()) {
+                return result;
+            }
+
+            if (names.size() + misses.size() > nameCacheSize) {
+                names.clear();
+            }
+            long expiresAt = now + nameCacheTtlMs;
+            for (Object[] row : loader.apply(misses)) {
+                Long id = (Long) row[0];
+                String name = (String) row[1];
+                names.put(id, new CachedName(name, expiresAt));
+                result.put(id, name);
+            }
+            return result;
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.project.Teaming.global.sse.service;
 
-import com.project.Teaming.domain.user.entity.User;
+import com.github.f4b6a3.tsid.TsidCreator;
 import com.project.Teaming.domain.user.repository.UserRepository;
 import com.project.Teaming.global.error.ErrorCode;
 import com.project.Teaming.global.error.exception.BusinessException;
 import com.project.Teaming.global.jwt.dto.SecurityUserDto;
+import com.project.Teaming.global.sse.dto.NotificationCursorResponse;
+import com.project.Teaming.global.sse.dto.NotificationJobResponse;
 import com.project.Teaming.global.sse.dto.NotificationRequestDto;
 import com.project.Teaming.global.sse.dto.NotificationResponseDto;
 import com.project.Teaming.global.sse.entity.Notification;
+import com.project.Teaming.global.sse.entity.NotificationJobType;
+import com.project.Teaming.global.sse.entity.NotificationType;
 import com.project.Teaming.global.sse.repository.NotificationRepository;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,51 +37,128 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final UnreadCountService unreadCountService;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final NotificationRenderer notificationRenderer;
+    private final NotificationBulkJobService notificationBulkJobService;
     private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char CURSOR_SEPARATOR = '_';
+    // 최신순 (createdAt, id) 내림차순
+    private static final Comparator<NotificationResponseDto> LATEST_FIRST = Comparator
+            .comparing(NotificationResponseDto::getCreatedDateTime)
+            .thenComparing(NotificationResponseDto::getNotificationId)
+            .reversed();
+
     /**
-     * 알림 db에 저장
+     * 알림 저장 및 전송 요청
+     * 호출한 트랜잭션 안에서 NotificationBatchWriter 가 저장하고, 트랜잭션이 커밋되면 전송된다.
+     * 수신자는 reference 로만 연결하므로 유저 조회 쿼리가 발생하지 않는다.
+     * 메시지는 저장하지 않고 템플릿(type)과 파라미터만 저장하며, 조회/전송 시점에 NotificationRenderer 가 만든다.
      * @param userId 알림 수신자 id
-     * @param message
-     * @param type
-     * @return
+     * @param teamId 팀 알림이 아니면 null
+     * @param actorId 템플릿의 {actor} 가 없으면 null
+     * @param param 템플릿의 숫자 파라미터가 없으면 null
+     * @return 저장된 알림 (id 는 TSID 로 미리 채번됨)
      */
-    @Transactional
-    public Notification saveNotification(Long userId, String message, String type, String category) {
-        Notification notification = new Notification();
-        User user = userRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXIST));
-        notification.setUser(user);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setCategory(category);
-        notification.setTeamId(null);
-        notification.setRead(false);
-        return notificationRepository.save(notification);
+    public Notification sendNotification(Long userId, Long teamId, NotificationType type, Long actorId, Integer param) {
+        Notification notification = createNotification(userId, teamId, type, actorId, param);
+        notificationBatchWriter.write(List.of(notification));
+        return notification;
     }
 
-    @Transactional
-    public Notification saveNotificationWithTeamId(Long userId, Long teamId, String message, String type, String category) {
-        Notification notification = new Notification();
-        User user = userRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXIST));
-        notification.setUser(user);
-        notification.setMessage(message);
-        notification.setTeamId(teamId);
-        notification.setType(type);
-        notification.setCategory(category);
-        notification.setRead(false);
-        return notificationRepository.save(notification);
+    public Notification sendNotification(Long userId, Long teamId, NotificationType type) {
+        return sendNotification(userId, teamId, type, null, null);
+    }
+
+    /**
+     * 여러 수신자에게 같은 알림 저장 및 전송 요청
+     */
+    public List<Notification> sendNotifications(List<Long> userIds, Long teamId, NotificationType type, Long actorId, Integer param) {
+        List<Notification> notifications = userIds.stream()
+                .map(userId -> createNotification(userId, teamId, type, actorId, param))
+                .toList();
+        notificationBatchWriter.write(notifications);
+        return notifications;
+    }
+
+    private Notification createNotification(Long userId, Long teamId, NotificationType type, Long actorId, Integer param) {
+        Notification notification = new Notification(userRepository.getReferenceById(userId), teamId, type, actorId, param);
+        notification.setId(TsidCreator.getTsid().toLong());
+        return notification;
     }
 
+    /**
+     * 개인 알림과 유저에게 보이는 브로드캐스트 알림을 합쳐 최신순으로 반환한다.
+     */
     @Transactional
     public List<NotificationResponseDto> getNotifications() {
-        List<Notification> notifications =  notificationRepository.findByUserId(getCurrentId(), Sort.by(Sort.Order.desc("createdAt")));
-        return notifications.stream()
+        Long userId = getCurrentId();
+        List<Notification> notifications =  notificationRepository.findByUserId(userId, Sort.by(Sort.Order.desc("createdAt")));
+        List<NotificationResponseDto> result = notifications.stream()
                 .map(NotificationResponseDto::from).collect(Collectors.toList());
+        notificationRenderer.render(result);
+        result.addAll(broadcastNotificationService.findNotifications(userId, null, null, null, null, null, false));
+        result.sort(LATEST_FIRST);
+        return result;
     }
 
+    /**
+     * 알림 내역 커서 조회. 커서는 "마지막 알림의 createdAt_id" 형식이며, 첫 페이지는 null
+     * @param unreadOnly 읽지 않은 알림만 조회
+     */
+    @Transactional(readOnly = true)
+    public NotificationCursorResponse getNotificationsByCursor(String cursor, int size, String category, String type, boolean unreadOnly) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                cursorCreatedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException | IndexOutOfBoundsException e) {
+                throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+            }
+        }
+
+        // 개인 알림과 브로드캐스트 알림을 각각 pageSize + 1 건씩 가져와 합친다
+        Long userId = getCurrentId();
+        List<NotificationResponseDto> notifications = new ArrayList<>(notificationRepository.findNotificationsByCursor(
+                userId, cursorCreatedAt, cursorId, pageSize + 1, category, type, unreadOnly));
+        notifications.addAll(broadcastNotificationService.findNotifications(
+                userId, cursorCreatedAt, cursorId, pageSize + 1, category, type, unreadOnly));
+        notifications.sort(LATEST_FIRST);
+
+        // 다음 페이지 여부 확인
+        boolean isLast = notifications.size() <= pageSize;
+        if (!isLast) {
+            notifications = notifications.subList(0, pageSize);
+        }
+
+        notificationRenderer.render(notifications);
+
+        NotificationResponseDto last = notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+        String nextCursor = (last == null || isLast) ? null : last.getCreatedDateTime().toString() + CURSOR_SEPARATOR + last.getNotificationId();
+
+        return new NotificationCursorResponse(notifications, nextCursor, pageSize, isLast);
+    }
+
+    @Transactional
     public void deleteNotification(Long notificationId) {
-        Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_NOTIFICATION));
-        notificationRepository.delete(notification);
+        Long userId = getCurrentId();
+        if (deleteByIds(userId, List.of(notificationId)) == 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_NOTIFICATION);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (Redis 카운터 한 건 조회)
+     */
+    public long getUnreadCount() {
+        return unreadCountService.getUnreadCount(getCurrentId());
     }
 
     private Long getCurrentId() {
@@ -82,26 +167,65 @@ public class NotificationService {
         return securityUser.getUserId();
     }
 
+    /**
+     * 요청한 알림 중 유저 본인의 알림만 읽음 처리한다. (다른 유저의 id 는 user_id 조건에 걸리지 않아 무시된다)
+     * @return 새로 읽음 처리된 알림 수
+     */
     @Transactional
     public int markAsRead(NotificationRequestDto dto) {
         List<Long> ids = getLongIds(dto);
-        List<Long> validIds = notificationRepository.findValidNotificationIds(ids, getCurrentId());
-        if (validIds.size() != ids.size()) throw new BusinessException(ErrorCode.NOT_AUTHORIZED);
-        return notificationRepository.markNotificationsAsRead(ids);
+        Long userId = getCurrentId();
+        int updatedCount = notificationRepository.markAsReadByUserIdAndIds(userId, ids);
+        // 모두 읽지 않은 개인 알림이었으면 브로드캐스트는 확인하지 않는다
+        List<Long> broadcastIds = (updatedCount == ids.size()) ? List.of() : broadcastNotificationService.findVisibleIds(userId, ids);
+        long broadcastCount = broadcastNotificationService.markAsRead(userId, broadcastIds);
+        unreadCountService.decrease(userId, updatedCount + broadcastCount);
+        return updatedCount + (int) broadcastCount;
     }
 
+    /**
+     * 요청한 알림 중 유저 본인의 알림만 삭제한다.
+     * @return 삭제된 알림 수
+     */
     @Transactional
     public int deleteNotifications(NotificationRequestDto dto) {
-        List<Long> ids = getLongIds(dto);
-        List<Long> validIds = notificationRepository.findValidNotificationIds(ids, getCurrentId());
-        if (validIds.size() != ids.size()) throw new BusinessException(ErrorCode.NOT_AUTHORIZED);
-        return notificationRepository.deleteNotificationsByIds(ids);
+        return deleteByIds(getCurrentId(), getLongIds(dto));
+    }
+
+    /**
+     * 모든 알림 읽음 처리 작업 시작. 처리는 백그라운드에서 진행되고 작업 id 를 바로 반환한다.
+     */
+    public NotificationJobResponse markAllAsRead() {
+        return notificationBulkJobService.start(getCurrentId(), NotificationJobType.MARK_ALL_READ);
+    }
+
+    /**
+     * 읽은 알림 모두 삭제 작업 시작. 처리는 백그라운드에서 진행되고 작업 id 를 바로 반환한다.
+     */
+    public NotificationJobResponse deleteAllRead() {
+        return notificationBulkJobService.start(getCurrentId(), NotificationJobType.DELETE_ALL_READ);
+    }
+
+    public NotificationJobResponse getJob(String jobId) {
+        return notificationBulkJobService.find(getCurrentId(), jobId);
+    }
+
+    // MySQL 의 DELETE 는 지운 행을 돌려주지 않아, 한 문장으로 지우면 그중 읽지 않았던 알림 수를 알 수 없다.
+    // 읽지 않은 알림 수를 정확히 차감하려고 읽음 여부를 조건에 넣어 두 번 삭제한다. 모두 개인 알림이면 브로드캐스트는 확인하지 않는다
+    private int deleteByIds(Long userId, List<Long> ids) {
+        int unreadCount = notificationRepository.deleteByUserIdAndIds(userId, ids, false);
+        int deletedCount = unreadCount + notificationRepository.deleteByUserIdAndIds(userId, ids, true);
+        List<Long> broadcastIds = (deletedCount == ids.size()) ? List.of() : broadcastNotificationService.findVisibleIds(userId, ids);
+        long broadcastUnreadCount = broadcastNotificationService.delete(userId, broadcastIds);
+        unreadCountService.decrease(userId, unreadCount + broadcastUnreadCount);
+        return deletedCount + broadcastIds.size();
     }
 
     private List<Long> getLongIds(NotificationRequestDto dto) {
         List<Long> ids = dto.getNotificationIds().stream()
                 .map(this::convertToLong)
                 .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
 
         if (ids.isEmpty()) {
@@ -0,0 +1,79 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.messageQueue.outbox.NotificationOutboxRepository;
+import com.project.Teaming.global.messageQueue.transport.NotificationTransport;
+import com.project.Teaming.global.sse.dto.NotificationStatsResponse;
+import com.project.Teaming.global.sse.repository.EmitterRepository;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이 서버의 알림 전달 상태를 모아 보여준다. (연결, 전송 큐, 전달 경로 적재량)
+ * 단계별 지연은 notification.pipeline.latency 지표로 확인한다.
+ */
+@Service
+public class NotificationStatsService {
+
+    private final EmitterRepository emitterRepository;
+    private final SseWriter sseWriter;
+    private final SseEmitterService sseEmitterService;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationTransport notificationTransport;
+    private final Executor notificationExecutor;
+
+    @Value("${server.id}")
+    private String serverId;
+
+    @Value("${notification.transport.type:amqp}")
+    private String transportType;
+
+    public NotificationStatsService(EmitterRepository emitterRepository, SseWriter sseWriter,
+                                    SseEmitterService sseEmitterService, NotificationOutboxRepository outboxRepository,
+                                    NotificationTransport notificationTransport,
+                                    @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.emitterRepository = emitterRepository;
+        this.sseWriter = sseWriter;
+        this.sseEmitterService = sseEmitterService;
+        this.outboxRepository = outboxRepository;
+        this.notificationTransport = notificationTransport;
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    public NotificationStatsResponse getStats() {
+        Map<Long, Integer> connectionsByUser = new HashMap<>();
+        emitterRepository.forEach(connection -> connectionsByUser.merge(connection.getUserId(), 1, Integer::sum));
+
+        Map<Integer, Long> usersByConnectionCount = new TreeMap<>();
+        int connections = 0;
+        int maxPerUser = 0;
+        for (int count : connectionsByUser.values()) {
+            usersByConnectionCount.merge(count, 1L, Long::sum);
+            connections += count;
+            maxPerUser = Math.max(maxPerUser, count);
+        }
+
+        return new NotificationStatsResponse(serverId, transportType,
+                connections, connectionsByUser.size(), usersByConnectionCount, maxPerUser,
+                sseWriter.pendingFrames(), sseWriter.droppedFrames(), sseEmitterService.rejectedConnections(),
+                outboxRepository.count(),
+                notificationTransport.backlog(), executorStats());
+    }
+
+    private Map<String, Integer> executorStats() {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        if (notificationExecutor instanceof ThreadPoolTaskExecutor executor) {
+            stats.put("active", executor.getActiveCount());
+            stats.put("poolSize", executor.getPoolSize());
+            stats.put("maxPoolSize", executor.getMaxPoolSize());
+            stats.put("queueSize", executor.getQueueSize());
+        }
+        return stats;
+    }
+}
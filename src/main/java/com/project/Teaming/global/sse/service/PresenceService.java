@@ -0,0 +1,84 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.sse.repository.EmitterRepository;
+import com.project.Teaming.global.sse.repository.PresenceRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 유저가 어느 서버에 SSE 로 연결되어 있는지 관리한다.
+ * 구독 시 등록, 유저의 마지막 연결이 끊기면 해제하고, 연결이 유지되는 동안은 하트비트로 만료 시각을 연장한다.
+ * 알림 발행 측은 이 정보로 연결된 서버의 큐에만 이벤트를 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private static final int HEARTBEAT_CHUNK_SIZE = 500;
+
+    private final PresenceRepository presenceRepository;
+    private final EmitterRepository emitterRepository;
+
+    @Value("${server.id}")
+    private String serverId;
+
+    @Value("${sse.presence.ttl-ms:90000}")  // 하트비트가 이 시간 동안 없으면 연결이 끊긴 것으로 본다
+    private long ttlMs;
+
+    public void register(Long userId) {
+        try {
+            presenceRepository.saveAll(List.of(userId), serverId, expiresAt(), keyTtl());
+        } catch (Exception e) {
+            log.warn("SSE presence 등록 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    public void unregister(Long userId) {
+        try {
+            presenceRepository.delete(userId, serverId);
+        } catch (Exception e) {
+            log.warn("SSE presence 해제 실패 (만료 시 자동 제외): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 유저별로 연결된 서버 목록. 어느 서버에도 연결되어 있지 않은 유저는 포함되지 않는다.
+     */
+    public Map<Long, List<String>> findServers(List<Long> userIds) {
+        return presenceRepository.findAliveServers(userIds, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${sse.presence.heartbeat-ms:30000}")
+    public void heartbeat() {
+        List<Long> chunk = new ArrayList<>(HEARTBEAT_CHUNK_SIZE);
+        long expiresAt = expiresAt();
+        try {
+            for (Long userId : emitterRepository.findAllUserIds()) {
+                chunk.add(userId);
+                if (chunk.size() == HEARTBEAT_CHUNK_SIZE) {
+                    presenceRepository.saveAll(chunk, serverId, expiresAt, keyTtl());
+                    chunk.clear();
+                }
+            }
+            presenceRepository.saveAll(chunk, serverId, expiresAt, keyTtl());
+        } catch (Exception e) {
+            log.warn("SSE presence 하트비트 실패: {}", e.getMessage());
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + ttlMs;
+    }
+
+    private Duration keyTtl() {
+        return Duration.ofMillis(ttlMs * 2);
+    }
+}
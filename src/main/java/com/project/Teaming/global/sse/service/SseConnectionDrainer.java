@@ -0,0 +1,113 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.sse.connection.SseConnection;
+import com.project.Teaming.global.sse.connection.SseFrame;
+import com.project.Teaming.global.sse.repository.EmitterRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 종료 시 SSE 연결 정리.
+ * 모든 연결이 한 번에 끊기면 클라이언트가 남은 노드로 동시에 재연결하므로,
+ * 연결마다 무작위 재연결 대기 시간(retry)을 먼저 보내고 연결을 여러 묶음(wave)으로 나눠 순서대로 종료한다.
+ * 정리가 시작되면 이 노드는 새 연결을 받지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseConnectionDrainer implements SmartLifecycle {
+
+    private static final String RECONNECT_EVENT_NAME = "reconnect";
+
+    private final EmitterRepository emitterRepository;
+    private final SseWriter sseWriter;
+
+    @Value("${sse.drain.retry-min-ms:1000}")  // 클라이언트에 안내할 재연결 대기 시간 하한
+    private long retryMinMs;
+
+    @Value("${sse.drain.retry-max-ms:10000}")  // 클라이언트에 안내할 재연결 대기 시간 상한
+    private long retryMaxMs;
+
+    @Value("${sse.drain.waves:5}")  // 연결을 나눠 종료할 묶음 수
+    private int waves;
+
+    @Value("${sse.drain.wave-interval-ms:1000}")  // 묶음 사이 대기 시간
+    private long waveIntervalMs;
+
+    private volatile boolean running = false;
+    private volatile boolean draining = false;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            drain();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 graceful shutdown 보다 먼저 멈춰야 열린 SSE 요청이 종료를 붙잡지 않는다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * 재연결 대기 시간. 클라이언트마다 다르게 줘서 재연결 시점을 분산한다.
+     */
+    public long nextRetryMillis() {
+        return ThreadLocalRandom.current().nextLong(retryMinMs, Math.max(retryMinMs, retryMaxMs) + 1);
+    }
+
+    private void drain() {
+        draining = true;
+        List<SseConnection> connections = new ArrayList<>();
+        emitterRepository.forEach(connections::add);
+        if (connections.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        connections.forEach(connection ->
+                sseWriter.write(connection, new SseFrame(null, RECONNECT_EVENT_NAME, "server shutdown", nextRetryMillis())));
+
+        Collections.shuffle(connections);
+        int waveCount = Math.max(1, Math.min(waves, connections.size()));
+        int waveSize = (connections.size() + waveCount - 1) / waveCount;
+        int closed = 0;
+        try {
+            for (int from = 0; from < connections.size(); from += waveSize) {
+                Thread.sleep(waveIntervalMs);  // 첫 묶음도 기다려 재연결 안내가 먼저 전송되도록 한다
+                List<SseConnection> wave = connections.subList(from, Math.min(from + waveSize, connections.size()));
+                wave.forEach(SseConnection::close);
+                closed += wave.size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            connections.forEach(SseConnection::close);
+            closed = connections.size();
+        }
+        log.info("SSE 연결 정리 완료: connections={}, waves={}, duration={}ms", closed, waveCount, System.currentTimeMillis() - start);
+    }
+}
@@ -1,16 +1,29 @@
 package com.project.Teaming.global.sse.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.project.Teaming.global.error.ErrorCode;
-import com.project.Teaming.global.error.exception.BusinessException;
+import com.github.f4b6a3.tsid.Tsid;
+import com.project.Teaming.global.event.NotificationMessage;
 import com.project.Teaming.global.jwt.dto.SecurityUserDto;
+import com.project.Teaming.global.sse.connection.OverflowPolicy;
+import com.project.Teaming.global.sse.connection.SseConnection;
+import com.project.Teaming.global.sse.connection.SseFrame;
 import com.project.Teaming.global.sse.dto.EventPayload;
 import com.project.Teaming.global.sse.dto.EventWithTeamPayload;
 import com.project.Teaming.global.sse.repository.EmitterRepository;
-import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import com.project.Teaming.global.sse.repository.EventReplayRepository;
+import com.project.Teaming.global.sse.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -18,29 +31,118 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SseEmitterService {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60 ;
+    private static final String EVENT_NAME = "sse";
+
     private final EmitterRepository emitterRepository;
+    private final EventReplayRepository eventReplayRepository;
+    private final NotificationRepository notificationRepository;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final SseWriter sseWriter;
+    private final SseFrameEncoder frameEncoder;
+    private final UnreadCountService unreadCountService;
+    private final PresenceService presenceService;
+    private final NotificationRenderer notificationRenderer;
+    private final SseConnectionDrainer sseConnectionDrainer;
+    private final Counter rejectedConnections;
+
+    @Value("${sse.connection.queue-capacity:100}")  // 연결별 전송 큐 크기
+    private int queueCapacity;
+
+    @Value("${sse.connection.overflow-policy:DROP_OLDEST}")  // 전송 큐가 가득 찼을 때의 정책
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${sse.replay.db-limit:100}")  // 재전송 버퍼에 없을 때 DB 에서 다시 보낼 최대 알림 수
+    private int replayDbLimit;
+
+    @Value("${sse.replay.overlap-ms:5000}")  // DB 재전송 시 마지막 이벤트 생성 시각보다 앞당겨 조회할 시간 (늦게 커밋된 알림 포함)
+    private long replayOverlapMs;
+
+    @Value("${sse.connection.max-per-node:10000}")  // 노드당 최대 SSE 연결 수
+    private int maxConnections;
+
+    public SseEmitterService(EmitterRepository emitterRepository, EventReplayRepository eventReplayRepository,
+                             NotificationRepository notificationRepository,
+                             BroadcastNotificationService broadcastNotificationService, SseWriter sseWriter,
+                             SseFrameEncoder frameEncoder, UnreadCountService unreadCountService,
+                             PresenceService presenceService, NotificationRenderer notificationRenderer,
+                             SseConnectionDrainer sseConnectionDrainer, MeterRegistry meterRegistry) {
+        this.emitterRepository = emitterRepository;
+        this.eventReplayRepository = eventReplayRepository;
+        this.notificationRepository = notificationRepository;
+        this.broadcastNotificationService = broadcastNotificationService;
+        this.sseWriter = sseWriter;
+        this.frameEncoder = frameEncoder;
+        this.unreadCountService = unreadCountService;
+        this.presenceService = presenceService;
+        this.notificationRenderer = notificationRenderer;
+        this.sseConnectionDrainer = sseConnectionDrainer;
+        this.rejectedConnections = Counter.builder("sse.connections.rejected")
+                .description("연결 수 상한 또는 종료 중이라 거절된 SSE 구독 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 구독을 받을 수 있는지 확인한다. 종료 중이거나 노드의 연결 수가 상한에 도달했으면 거절한다.
+     * 거절된 클라이언트는 Retry-After 이후 다른 노드로 다시 연결한다.
+     */
+    public boolean tryAdmit() {
+        if (sseConnectionDrainer.isDraining() || emitterRepository.count() >= maxConnections) {
+            rejectedConnections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 거절된 구독 요청 수 (서버 기동 이후 누적)
+     */
+    public long rejectedConnections() {
+        return (long) rejectedConnections.count();
+    }
+
+    /**
+     * 거절된 클라이언트에게 안내할 재시도 대기 시간(초). 재연결이 한 시점에 몰리지 않도록 무작위로 정한다.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, sseConnectionDrainer.nextRetryMillis() / 1000);
+    }
 
     /**
      * 클라이언트의 이벤트 구독을 허용하는 메서드
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID. 이후에 놓친 알림을 다시 보낸다 (이미 받은 알림이 섞일 수 있어 클라이언트가 id 로 거른다)
      */
     @Transactional
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(String lastEventId) {
         Long userId = getCurrentId();
         // sse의 유효 시간 만료 시, 클라어언트에서 다시 서버로 이벤트 구독을 시도
-        SseEmitter sseEmitter = emitterRepository.save(userId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseConnection connection = emitterRepository.save(
+                new SseConnection(userId, emitterRepository.nextConnectionId(), sseEmitter, queueCapacity, overflowPolicy));
+        long connectionId = connection.getConnectionId();
 
-        // 사용자에게 모든 데이터가 전송되었다면 emitter 삭제
-        sseEmitter.onCompletion(() -> emitterRepository.deleteById(userId));
+        // 사용자에게 모든 데이터가 전송되었다면 해당 연결만 삭제 (같은 유저의 다른 탭/기기 연결은 유지)
+        sseEmitter.onCompletion(() -> removeConnection(userId, connectionId));
         // Emmiter의 유효 시간 만료 시, emitter 삭제. 유효 시간의 만료는 연결된 시간동안 아무런 이벤트가 발생하지 않았음을 의미함
-        sseEmitter.onTimeout(() -> emitterRepository.deleteById(userId));
+        sseEmitter.onTimeout(() -> removeConnection(userId, connectionId));
+        sseEmitter.onError(e -> removeConnection(userId, connectionId));
+        // 이 서버로 알림이 라우팅되도록 등록
+        presenceService.register(userId);
 
         // 첫 구독 시, 이벤트 발생시킨다. sse 연결이 이루어진 후, 하나의 데이터로 전송되지 않는다면 sse 시간 만료 후 503에러 발생
-        sendToClient(userId, "subscribe event, userId : " + userId);
+        // 구독 이벤트에는 id 를 붙이지 않아 클라이언트의 Last-Event-ID 를 유지한다
+        // 노드 장애로 연결이 한 번에 끊겨도 재연결이 몰리지 않도록 클라이언트마다 다른 재연결 대기 시간을 함께 보낸다
+        sseWriter.write(connection, new SseFrame(null, EVENT_NAME, frameEncoder.encode("subscribe event, userId : " + userId),
+                sseConnectionDrainer.nextRetryMillis()));
+
+        // 재연결이라면 놓친 알림만 다시 보낸다. 연결 등록 직후의 실시간 알림과 중복될 수 있으나 누락은 없다
+        Long lastId = parseEventId(lastEventId);
+        if (lastId != null) {
+            replay(connection, userId, lastId);
+        }
 
         return sseEmitter;
     }
@@ -53,34 +155,175 @@ public class SseEmitterService {
         sendToClient(userId, eventPayload);
     }
 
+    /**
+     * 저장된 알림들을 각 수신자에게 전송한다. 알림 id 를 이벤트 id 로 사용하며,
+     * 재전송 버퍼에 기록해 재연결 시 놓친 알림을 다시 보낼 수 있게 한다.
+     * 일괄 알림처럼 내용이 같은 알림은 공통 부분을 한 번만 직렬화하고, 수신자별 읽지 않은 알림 수는 한 번에 조회한다.
+     */
+    public void sendNotifications(List<NotificationMessage> notifications) {
+        Map<TemplateKey, SseFrameEncoder.Template> templates = new HashMap<>();
+        Map<Long, Long> unreadCounts = unreadCountService.findUnreadCounts(notifications.stream()
+                .map(NotificationMessage::getUserId)
+                .distinct()
+                .toList());
+        for (NotificationMessage notification : notifications) {
+            try {
+                sendNotification(notification, templates, unreadCounts);
+            } catch (Exception e) {
+                log.error("❌ SSE 알림 전송 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void sendNotification(NotificationMessage notification, Map<TemplateKey, SseFrameEncoder.Template> templates,
+                                  Map<Long, Long> unreadCounts) {
+        Long userId = notification.getUserId();
+        SseFrame frame = toFrame(notification, templates, unreadCounts);
+        if (frame == null) {
+            return;
+        }
+
+        boolean connected = emitterRepository.existsByUserId(userId);
+        eventReplayRepository.save(userId, frame, connected);
+        if (connected) {
+            emitterRepository.findAllByUserId(userId).forEach(connection -> sseWriter.write(connection, frame));
+        }
+    }
 
+    /**
+     * 유저의 모든 연결로 이벤트를 전달한다. 호출 스레드는 연결별 큐에 적재만 하고 바로 반환하며,
+     * 실제 소켓 쓰기는 SseWriter 가 모아서 수행한다.
+     */
     public void sendToClient(Long userId, Object data) {
-        SseEmitter sseEmitter = emitterRepository.findById(userId);
+        List<SseConnection> connections = emitterRepository.findAllByUserId(userId);
 
-        if (sseEmitter == null) {
+        if (connections.isEmpty()) {
             log.warn("SSE 연결 없음: userId={}", userId);
             return;  // 연결된 SSE가 없으면 알림 전송하지 않음
         }
 
+        SseFrame frame = toFrame(null, data);
+        if (frame == null) {
+            return;
+        }
+        connections.forEach(connection -> sseWriter.write(connection, frame));
+    }
+
+    private void replay(SseConnection connection, Long userId, long lastEventId) {
+        List<SseFrame> frames = eventReplayRepository.findAllAfter(userId, lastEventId, EVENT_NAME);
+        if (frames == null) {
+            frames = findReplayFramesInDb(userId, lastEventId);  // 버퍼가 구간을 보장하지 못하면 DB 에서 조회
+        }
+        log.info("SSE 재연결 알림 재전송: userId={}, lastEventId={}, count={}", userId, lastEventId, frames.size());
+        frames.forEach(frame -> sseWriter.write(connection, frame));
+
+        // 재전송 프레임의 unreadCount 는 원래 전송 시점 값이라 이후 읽음/삭제가 반영되지 않는다.
+        // 마지막에 현재 값만 담은 프레임을 보내 클라이언트의 배지를 맞춘다. id 를 붙이지 않아 Last-Event-ID 는 유지된다
+        SseFrame countFrame = toFrame(null, EventPayload.builder()
+                .userId(userId)
+                .unreadCount(unreadCountService.getUnreadCount(userId))
+                .build());
+        if (countFrame != null) {
+            sseWriter.write(connection, countFrame);
+        }
+    }
+
+    /**
+     * 알림 id(TSID)는 노드마다 채번되어 커밋 순서와 다를 수 있으므로 id 로 자르지 않는다.
+     * 마지막 이벤트의 생성 시각보다 overlap 만큼 이전부터 개인 알림과 브로드캐스트 알림을 생성 순서대로 다시 보낸다.
+     * 이미 받은 알림이 함께 갈 수 있으며, 클라이언트는 이벤트 id 로 중복을 거른다.
+     */
+    private List<SseFrame> findReplayFramesInDb(Long userId, long lastEventId) {
+        LocalDateTime since = LocalDateTime.ofInstant(Tsid.from(lastEventId).getInstant(), ZoneId.systemDefault())
+                .minusNanos(replayOverlapMs * 1_000_000);
+        List<NotificationMessage> messages = new ArrayList<>(notificationRenderer.toMessages(
+                notificationRepository.findAllByUserIdAndCreatedAtFrom(userId, since, PageRequest.of(0, replayDbLimit))));
+        messages.addAll(broadcastNotificationService.findUnreadMessagesFrom(userId, since, replayDbLimit));
+        messages.sort(Comparator.comparing((NotificationMessage message) -> LocalDateTime.parse(message.getCreatedAt()))
+                .thenComparing(NotificationMessage::getNotificationId));
+
+        Map<TemplateKey, SseFrameEncoder.Template> templates = new HashMap<>();
+        Map<Long, Long> unreadCounts = unreadCountService.findUnreadCounts(List.of(userId));
+        return messages.stream()
+                .limit(replayDbLimit)
+                .map(notification -> toFrame(notification, templates, unreadCounts))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void removeConnection(Long userId, long connectionId) {
+        emitterRepository.deleteById(userId, connectionId);
+        if (!emitterRepository.existsByUserId(userId)) {
+            eventReplayRepository.deleteLocal(userId);
+            presenceService.unregister(userId);
+        }
+    }
+
+    private Object toPayload(NotificationMessage notification, Long unreadCount) {
+        Long userId = notification.getUserId();
+        return (notification.getTeamId() != null) ?
+                EventWithTeamPayload.builder()
+                        .userId(userId)
+                        .unreadCount(unreadCount)
+                        .type(notification.getType())
+                        .category(notification.getCategory())
+                        .teamId(notification.getTeamId())
+                        .createdAt(notification.getCreatedAt())
+                        .message(notification.getMessage())
+                        .isRead(notification.isRead())
+                        .build() :
+                EventPayload.builder()
+                        .userId(userId)
+                        .unreadCount(unreadCount)
+                        .type(notification.getType())
+                        .category(notification.getCategory())
+                        .createdAt(notification.getCreatedAt())
+                        .message(notification.getMessage())
+                        .isRead(notification.isRead())
+                        .build();
+    }
+
+    private SseFrame toFrame(String eventId, Object data) {
+        String jsonData = frameEncoder.encode(data);
+        return (jsonData == null) ? null : new SseFrame(eventId, EVENT_NAME, jsonData);
+    }
+
+    /**
+     * 알림 프레임을 만든다. 같은 내용의 알림은 처음 한 번만 전체 직렬화하고, 이후에는 수신자별 필드만 이어 붙인다.
+     */
+    private SseFrame toFrame(NotificationMessage notification, Map<TemplateKey, SseFrameEncoder.Template> templates,
+                             Map<Long, Long> unreadCounts) {
+        Long userId = notification.getUserId();
+        Long unreadCount = unreadCounts.get(userId);
+        String createdAt = notification.getCreatedAt();
+        SseFrameEncoder.Template template = templates.computeIfAbsent(TemplateKey.from(notification),
+                key -> frameEncoder.template(toPayload(notification, unreadCount), userId, unreadCount, createdAt));
+
+        String eventId = String.valueOf(notification.getId());
+        SseFrame frame = (template == null)
+                ? toFrame(eventId, toPayload(notification, unreadCount))
+                : new SseFrame(eventId, EVENT_NAME, frameEncoder.encode(template, userId, unreadCount, createdAt));
+        return (frame == null || notification.getTrace() == null) ? frame : frame.withTrace(notification.getTrace());
+    }
+
+    // 이전 버전은 userId 를 이벤트 id 로 보냈으므로, TSID 가 아닌 값이 오면 오래된 알림부터 db-limit 개까지 다시 보낸다
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonData = objectMapper.writeValueAsString(data);
-            sseEmitter.send(
-                    SseEmitter.event()
-                            .id(userId.toString())
-                            .name("sse")
-                            .data(jsonData)
-            );
-            log.info("알림 전송 성공");
-        } catch (JsonProcessingException e){
-            log.warn("JSON 변환 오류 발생: ", e);
-        } catch (IOException ex) {
-            log.warn("클라이언트 연결 끊김(Broken Pipe): userId={}, error={}", userId, ex.getMessage());
-            emitterRepository.deleteById(userId);  // 클라이언트 연결 끊김 시 Emitter 제거
-        } catch (Exception e) {
-            log.error("알림 전송 실패: " + e.getMessage());
-            emitterRepository.deleteById(userId);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 수신자별 필드(userId, unreadCount, createdAt)를 제외한 알림 내용
+    private record TemplateKey(Long teamId, String type, String category, String message, boolean read) {
+
+        static TemplateKey from(NotificationMessage notification) {
+            return new TemplateKey(notification.getTeamId(), notification.getType(), notification.getCategory(),
+                    notification.getMessage(), notification.isRead());
         }
     }
 
@@ -0,0 +1,111 @@
+package com.project.Teaming.global.sse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 이벤트 data 직렬화 전담 컴포넌트.
+ * 공유 ObjectWriter 로 직렬화하고, 여러 수신자에게 같은 내용이 나가는 경우(일괄 알림)에는
+ * 공통 부분을 한 번만 직렬화해 두고 수신자별 필드(userId, unreadCount, createdAt)만 앞에 이어 붙인다.
+ * 페이로드 DTO 는 @JsonPropertyOrder 로 userId, unreadCount, createdAt 이 맨 앞에 오도록 고정되어 있어야 한다.
+ */
+@Slf4j
+@Component
+public class SseFrameEncoder {
+
+    private static final String USER_ID_FIELD = "{\"userId\":";
+    private static final String UNREAD_COUNT_FIELD = ",\"unreadCount\":";
+    private static final String CREATED_AT_FIELD = ",\"createdAt\":";
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    // 이어 붙이기용 버퍼. 스레드마다 재사용하고, 너무 커진 버퍼는 버린다
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final ObjectWriter writer;
+
+    public SseFrameEncoder(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * 페이로드 전체를 직렬화한다. 실패 시 null
+     */
+    public String encode(Object payload) {
+        try {
+            return writer.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("JSON 변환 오류 발생: ", e);
+            return null;
+        }
+    }
+
+    /**
+     * 수신자별 필드를 제외한 공통 부분을 한 번 직렬화해 둔다.
+     * 직렬화 결과가 예상한 필드 순서로 시작하지 않으면 null 을 반환하고, 호출 측은 encode(payload) 로 처리한다.
+     */
+    public Template template(Object payload, Long userId, Long unreadCount, String createdAt) {
+        String json = encode(payload);
+        if (json == null) {
+            return null;
+        }
+        String head = head(userId, unreadCount, createdAt);
+        if (!json.startsWith(head)) {
+            log.debug("SSE 페이로드 필드 순서 불일치로 템플릿 미사용: {}", payload.getClass().getSimpleName());
+            return null;
+        }
+        return new Template(json.substring(head.length()));
+    }
+
+    /**
+     * 공통 부분 앞에 수신자별 필드를 붙여 완성된 data 를 만든다.
+     */
+    public String encode(Template template, Long userId, Long unreadCount, String createdAt) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        appendHead(buffer, userId, unreadCount, createdAt);
+        buffer.append(template.body);
+        String data = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return data;
+    }
+
+    private String head(Long userId, Long unreadCount, String createdAt) {
+        StringBuilder buffer = new StringBuilder(64);
+        appendHead(buffer, userId, unreadCount, createdAt);
+        return buffer.toString();
+    }
+
+    // userId 는 @JsonFormat(shape = STRING) 으로 문자열 직렬화된다
+    private void appendHead(StringBuilder buffer, Long userId, Long unreadCount, String createdAt) {
+        buffer.append(USER_ID_FIELD);
+        appendString(buffer, (userId == null) ? null : userId.toString());
+        buffer.append(UNREAD_COUNT_FIELD).append((unreadCount == null) ? "null" : unreadCount.toString());
+        buffer.append(CREATED_AT_FIELD);
+        appendString(buffer, createdAt);
+    }
+
+    private void appendString(StringBuilder buffer, String value) {
+        if (value == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append('"').append(JsonStringEncoder.getInstance().quoteAsString(value)).append('"');
+    }
+
+    /**
+     * 수신자별 필드를 뺀 나머지 JSON (",\"type\":...}" 형태)
+     */
+    public static class Template {
+
+        private final String body;
+
+        private Template(String body) {
+            this.body = body;
+        }
+    }
+}
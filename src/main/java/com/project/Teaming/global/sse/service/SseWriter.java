@@ -0,0 +1,283 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.sse.connection.DeliveryTrace;
+import com.project.Teaming.global.sse.connection.OfferResult;
+import com.project.Teaming.global.sse.connection.SseConnection;
+import com.project.Teaming.global.sse.connection.SseFrame;
+import com.project.Teaming.global.sse.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * SSE 소켓 쓰기 전담 컴포넌트.
+ * 소수의 단일 스레드 이벤트 루프를 두고 연결마다 하나의 루프를 고정 배정한다.
+ * 프레임이 적재되면 flush-delay 만큼 기다렸다가 그 사이 쌓인 프레임을 한 번의 send(= 한 번의 flush)로 내보낸다.
+ * send 는 블로킹 소켓 쓰기이므로 루프에서 직접 하지 않고 크기가 제한된 전송 스레드 풀에 넘긴다.
+ * 연결마다 진행 중인 send 는 하나뿐이며, write-timeout 을 넘긴 연결은 감시 작업이 닫아 다른 연결에 영향을 주지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseWriter {
+
+    private final EmitterRepository emitterRepository;
+    private final MeterRegistry meterRegistry;
+    private final NotificationLatencyRecorder latencyRecorder;
+
+    @Value("${sse.writer.threads:0}")  // 0 이면 CPU 코어 수
+    private int threads;
+
+    @Value("${sse.writer.flush-delay-ms:5}")  // 프레임을 모아 보내기 위해 대기하는 시간
+    private long flushDelayMs;
+
+    @Value("${sse.writer.max-batch-size:32}")  // 한 번의 flush 에 담을 최대 프레임 수
+    private int maxBatchSize;
+
+    @Value("${sse.writer.send-threads:64}")  // 동시에 소켓 쓰기를 수행할 최대 스레드 수
+    private int sendThreads;
+
+    @Value("${sse.writer.write-timeout-ms:10000}")  // 연결 하나의 send 가 이 시간을 넘기면 연결을 닫는다
+    private long writeTimeoutMs;
+
+    private ScheduledExecutorService[] loops;
+    private ThreadPoolExecutor sendExecutor;
+    private Timer flushLatency;
+    private DistributionSummary flushBatchSize;
+    private Counter droppedFrames;
+    private Counter failedFlushes;
+    private Counter timedOutWrites;
+
+    @PostConstruct
+    public void init() {
+        int loopCount = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicLong sequence = new AtomicLong();
+        loops = new ScheduledExecutorService[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sse-writer-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        AtomicLong sendSequence = new AtomicLong();
+        // 대기 큐 없이 스레드를 바로 배정하고, 모두 사용 중이면 루프에서 잠시 뒤 다시 넘긴다
+        sendExecutor = new ThreadPoolExecutor(0, sendThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-send-" + sendSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        loops[0].scheduleWithFixedDelay(this::closeTimedOutWrites, writeTimeoutMs, Math.max(100, writeTimeoutMs / 4), TimeUnit.MILLISECONDS);
+
+        flushLatency = Timer.builder("sse.writer.flush.latency")
+                .description("SSE 프레임 묶음을 소켓에 쓰고 flush 하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        flushBatchSize = DistributionSummary.builder("sse.writer.flush.batch.size")
+                .description("한 번의 flush 에 담긴 프레임 수")
+                .register(meterRegistry);
+        droppedFrames = Counter.builder("sse.writer.frames.dropped")
+                .description("전송 큐 초과로 버려진 프레임 수")
+                .register(meterRegistry);
+        failedFlushes = Counter.builder("sse.writer.flush.failed")
+                .description("소켓 쓰기 실패로 제거된 연결 수")
+                .register(meterRegistry);
+        timedOutWrites = Counter.builder("sse.writer.write.timeout")
+                .description("소켓 쓰기가 write-timeout 을 넘겨 닫힌 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.writer.queue.depth", this, SseWriter::pendingFrames)
+                .description("전체 연결의 전송 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections", emitterRepository, EmitterRepository::count)
+                .description("현재 노드의 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 큐 초과로 버려진 프레임 수 (서버 기동 이후 누적)
+     */
+    public long droppedFrames() {
+        return (long) droppedFrames.count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledExecutorService loop : loops) {
+            loop.shutdown();
+        }
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 연결 큐에 프레임을 적재하고 flush 를 예약한다. 호출 스레드는 소켓 쓰기를 기다리지 않는다.
+     */
+    public boolean write(SseConnection connection, SseFrame frame) {
+        OfferResult result = connection.offer(frame);
+        if (result.isDropped()) {
+            droppedFrames.increment();
+            log.warn("SSE 전송 큐 초과로 프레임 폐기: userId={}, connectionId={}", connection.getUserId(), connection.getConnectionId());
+        }
+        if (!result.isQueued()) {
+            return false;
+        }
+        scheduleFlush(connection, flushDelayMs);
+        return true;
+    }
+
+    private void scheduleFlush(SseConnection connection, long delayMs) {
+        if (!connection.tryStartDrain()) {
+            return;  // 이미 flush 가 예약되어 있으면 그 flush 에 함께 담긴다
+        }
+        try {
+            loopFor(connection).schedule(() -> flush(connection), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중. 프레임은 연결 종료와 함께 버려진다
+            connection.finishDrain();
+        }
+    }
+
+    private void flush(SseConnection connection) {
+        Set<ResponseBodyEmitter.DataWithMediaType> batch = new LinkedHashSet<>();
+        List<DeliveryTrace> traces = null;
+        int count = 0;
+        SseFrame frame;
+        while (count < maxBatchSize && !connection.isClosed() && (frame = connection.poll()) != null) {
+            batch.addAll(frame.toEvent().build());
+            if (frame.getTrace() != null) {
+                if (traces == null) {
+                    traces = new ArrayList<>();
+                }
+                traces.add(frame.getTrace());
+            }
+            count++;
+        }
+
+        if (count == 0) {
+            finishFlush(connection);
+            return;
+        }
+        submitSend(connection, batch, count, traces);
+    }
+
+    // 루프는 소켓을 기다리지 않는다. 전송 스레드가 모두 사용 중이면 묶음을 그대로 들고 잠시 뒤 다시 시도한다
+    private void submitSend(SseConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> batch, int count,
+                            List<DeliveryTrace> traces) {
+        try {
+            sendExecutor.execute(() -> send(connection, batch, count, traces));
+        } catch (RejectedExecutionException e) {
+            if (sendExecutor.isShutdown()) {
+                connection.finishDrain();
+                return;
+            }
+            try {
+                loopFor(connection).schedule(() -> submitSend(connection, batch, count, traces),
+                        Math.max(1, flushDelayMs), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException shutdown) {
+                connection.finishDrain();
+            }
+        }
+    }
+
+    private void send(SseConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> batch, int count,
+                      List<DeliveryTrace> traces) {
+        try {
+            if (!connection.isClosed()) {
+                long start = System.nanoTime();
+                connection.markSendStarted();
+                try {
+                    connection.getEmitter().send(batch);  // 묶인 프레임을 한 번에 쓰고 한 번만 flush
+                } finally {
+                    connection.markSendFinished();
+                }
+                flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                flushBatchSize.record(count);
+                if (traces != null) {
+                    long flushedAt = System.currentTimeMillis();  // 서버 소켓 flush 시점. 브라우저 수신 시각은 서버에서 알 수 없다
+                    traces.forEach(trace -> latencyRecorder.recordFlushed(trace, flushedAt));
+                }
+            }
+            if (connection.isClosed()) {
+                connection.completeEmitter();  // 쓰는 도중 시간 초과로 닫힌 연결은 쓰기가 끝난 지금 종료한다
+            }
+        } catch (IOException ex) {
+            log.warn("클라이언트 연결 끊김(Broken Pipe): userId={}, error={}", connection.getUserId(), ex.getMessage());
+            removeConnection(connection);  // 클라이언트 연결 끊김 시 해당 연결만 제거
+        } catch (Exception e) {
+            log.error("알림 전송 실패: " + e.getMessage());
+            removeConnection(connection);
+        }
+        finishFlush(connection);
+    }
+
+    private void finishFlush(SseConnection connection) {
+        connection.finishDrain();
+        // 최대 묶음 크기를 넘었거나 flush 도중 적재된 프레임은 바로 이어서 보낸다
+        if (!connection.isClosed() && connection.hasPendingFrames()) {
+            scheduleFlush(connection, 0);
+        }
+    }
+
+    /**
+     * send 가 write-timeout 을 넘긴 연결을 닫는다. 시간은 연결마다 따로 재며,
+     * emitter 는 쓰기 중에 잠겨 있으므로 여기서는 새 프레임만 막고 종료는 쓰기 스레드에 맡긴다.
+     */
+    private void closeTimedOutWrites() {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        List<SseConnection> timedOut = new ArrayList<>();
+        emitterRepository.forEach(connection -> {
+            if (connection.isSendingLongerThan(timeoutNanos)) {
+                timedOut.add(connection);
+            }
+        });
+        for (SseConnection connection : timedOut) {
+            log.warn("SSE 쓰기 시간 초과로 연결 종료: userId={}, connectionId={}", connection.getUserId(), connection.getConnectionId());
+            timedOutWrites.increment();
+            emitterRepository.deleteById(connection.getUserId(), connection.getConnectionId());
+            connection.abandon();
+        }
+    }
+
+    private void removeConnection(SseConnection connection) {
+        failedFlushes.increment();
+        emitterRepository.deleteById(connection.getUserId(), connection.getConnectionId());
+        if (connection.isClosed()) {
+            connection.completeEmitter();  // 시간 초과로 이미 닫힌 연결
+        } else {
+            connection.close();
+        }
+    }
+
+    private ScheduledExecutorService loopFor(SseConnection connection) {
+        return loops[(int) (connection.getConnectionId() % loops.length)];
+    }
+
+    /**
+     * 전체 연결의 전송 대기 프레임 수
+     */
+    public long pendingFrames() {
+        long[] total = {0};
+        emitterRepository.forEach(connection -> total[0] += connection.pendingFrames());
+        return total[0];
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.Teaming.global.sse.service;
+
+import com.project.Teaming.global.sse.repository.BroadcastNotificationRepository;
+import com.project.Teaming.global.sse.repository.NotificationRepository;
+import com.project.Teaming.global.sse.repository.UnreadCountRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽지 않은 알림 수 관리.
+ * 알림 저장/읽음/삭제 시 커밋 이후에 Redis 카운터를 증감하고, 조회는 Redis 값 하나만 읽는다.
+ * Redis 반영이 실패하거나 경합으로 어긋난 값은 UnreadCountReconcileScheduler 가 주기적으로 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    private final UnreadCountRepository unreadCountRepository;
+    private final NotificationRepository notificationRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+
+    @Value("${notification.unread.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 읽지 않은 알림 수 조회. 카운터가 아직 없으면 DB 에서 한 번 세어 채운다.
+     */
+    public long getUnreadCount(Long userId) {
+        Long count = unreadCountRepository.find(userId);
+        if (count != null) {
+            return count;
+        }
+        long counted = notificationRepository.countUnreadByUserId(userId)
+                + broadcastNotificationRepository.countUnreadByUserIds(List.of(userId)).getOrDefault(userId, 0L);
+        unreadCountRepository.saveIfAbsent(userId, counted);
+        return counted;
+    }
+
+    /**
+     * SSE 프레임에 실을 값 조회. 카운터가 없는 유저는 결과에 포함되지 않는다. (DB 를 조회하지 않음)
+     */
+    public Map<Long, Long> findUnreadCounts(List<Long> userIds) {
+        try {
+            return unreadCountRepository.findAll(userIds);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    public void increase(Long userId) {
+        afterCommit(Map.of(userId, 1L));
+    }
+
+    public void increase(Collection<Long> userIds) {
+        Map<Long, Long> deltas = new HashMap<>();
+        userIds.forEach(userId -> deltas.merge(userId, 1L, Long::sum));
+        afterCommit(deltas);
+    }
+
+    /**
+     * 전체 공지처럼 모든 유저가 대상인 경우, 카운터가 채워진 유저만 chunk 단위로 늘린다.
+     * (카운터가 없는 유저는 조회 시 DB 에서 세므로 그대로 둔다)
+     */
+    public void increaseAllCached() {
+        runAfterCommit(() -> unreadCountRepository.scanUserIds(chunkSize, userIds -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            userIds.forEach(userId -> deltas.put(userId, 1L));
+            unreadCountRepository.addAll(deltas);
+        }));
+    }
+
+    public void decrease(Long userId, long count) {
+        if (count > 0) {
+            afterCommit(Map.of(userId, -count));
+        }
+    }
+
+    /**
+     * 여러 유저의 카운터를 한 번에 줄인다. (userId → 줄일 수)
+     */
+    public void decrease(Map<Long, Long> counts) {
+        Map<Long, Long> deltas = new HashMap<>();
+        counts.forEach((userId, count) -> {
+            if (count > 0) {
+                deltas.put(userId, -count);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            afterCommit(deltas);
+        }
+    }
+
+    /**
+     * 유저의 알림이 모두 삭제된 경우 카운터도 제거한다.
+     */
+    public void reset(Long userId) {
+        runAfterCommit(() -> unreadCountRepository.delete(userId));
+    }
+
+    private void afterCommit(Map<Long, Long> deltas) {
+        runAfterCommit(() -> {
+            if (deltas.size() == 1) {
+                deltas.forEach(unreadCountRepository::add);
+            } else {
+                unreadCountRepository.addAll(deltas);
+            }
+        });
+    }
+
+    // 롤백된 변경이 카운터에 반영되지 않도록 커밋 이후에 실행한다
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 수 반영 실패 (보정 작업에서 복구): {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
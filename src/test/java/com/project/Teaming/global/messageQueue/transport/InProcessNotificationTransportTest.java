@@ -0,0 +1,9 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+class InProcessNotificationTransportTest extends NotificationTransportContractTest {
+
+    @Override
+    protected NotificationTransport createTransport(NotificationRouter router, LocalNotificationDispatcher dispatcher) {
+        return new InProcessNotificationTransport(dispatcher);
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Teaming.global.event.NotificationEvent;
+import com.project.Teaming.global.event.NotificationMessage;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import com.project.Teaming.global.sse.entity.NotificationType;
+import com.project.Teaming.global.sse.service.PresenceService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 모든 NotificationTransport 구현(amqp, redis-stream, in-process)이 통과해야 하는 전달/순서 테스트.
+ * 수신자는 모두 이 서버(SERVER_ID)에 연결된 것으로 두고, LocalNotificationDispatcher 에 도착한 알림을 모아 검증한다.
+ * 구현별 테스트는 createTransport 로 실제 전달 경로를 만들어 넘긴다.
+ */
+abstract class NotificationTransportContractTest {
+
+    protected static final String SERVER_ID = "transport-contract-test";
+
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long QUIET_MS = 300;  // 다 받은 뒤 중복 전달이 없는지 더 기다리는 시간
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<NotificationMessage> received = new CopyOnWriteArrayList<>();
+
+    private NotificationTransport transport;
+
+    /**
+     * 시작된(수신 중인) 전달 경로를 만든다. 도착한 이벤트는 dispatcher 로 넘겨야 한다.
+     */
+    protected abstract NotificationTransport createTransport(NotificationRouter router, LocalNotificationDispatcher dispatcher) throws Exception;
+
+    protected void destroyTransport() throws Exception {
+    }
+
+    @BeforeEach
+    void setUpTransport() throws Exception {
+        LocalNotificationDispatcher dispatcher = mock(LocalNotificationDispatcher.class);
+        doAnswer(invocation -> {
+            List<NotificationEvent> events = invocation.getArgument(0);
+            events.forEach(event -> received.addAll(event.getNotifications()));
+            return null;
+        }).when(dispatcher).dispatch(anyList());
+
+        PresenceService presenceService = mock(PresenceService.class);
+        when(presenceService.findServers(anyList())).thenAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(0);
+            return userIds.stream().collect(Collectors.toMap(Function.identity(), userId -> List.of(SERVER_ID)));
+        });
+
+        transport = createTransport(new NotificationRouter(presenceService), dispatcher);
+    }
+
+    @AfterEach
+    void tearDownTransport() throws Exception {
+        destroyTransport();
+    }
+
+    @Test
+    void deliversEveryNotificationExactlyOnce() throws Exception {
+        List<NotificationMessage> published = new ArrayList<>();
+        for (long userId = 1; userId <= 3; userId++) {
+            for (int i = 0; i < 10; i++) {
+                published.add(message(userId, NotificationType.TEAM_JOIN_REQUEST));
+            }
+            published.add(message(userId, NotificationType.WARNING));
+        }
+
+        transport.publish(List.of(NotificationEvent.of(published)));
+
+        awaitReceived(published.size());
+        assertThat(ids(received)).containsExactlyInAnyOrderElementsOf(ids(published));
+    }
+
+    @Test
+    void keepsPublishOrderWithinLaneAcrossPublishes() throws Exception {
+        List<NotificationMessage> normal = new ArrayList<>();
+        List<NotificationMessage> priority = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            NotificationMessage joinRequest = message(1L, NotificationType.TEAM_JOIN_REQUEST);
+            NotificationMessage warning = message(1L, NotificationType.WARNING);
+            normal.add(joinRequest);
+            priority.add(warning);
+            transport.publish(List.of(NotificationEvent.of(List.of(joinRequest, warning))));
+        }
+
+        awaitReceived(normal.size() + priority.size());
+        assertThat(ids(inLane(NotificationLane.NORMAL))).containsExactlyElementsOf(ids(normal));
+        assertThat(ids(inLane(NotificationLane.PRIORITY))).containsExactlyElementsOf(ids(priority));
+    }
+
+    // 한 번에 보낼 수 있는 알림 수(500)를 넘는 묶음은 나눠 보내지만 순서는 그대로여야 한다
+    @Test
+    void keepsOrderWhenLargeBatchIsSplit() throws Exception {
+        List<NotificationMessage> published = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            published.add(message(1L, NotificationType.TEAM_JOIN_REQUEST));
+        }
+
+        transport.publish(List.of(NotificationEvent.of(published)));
+
+        awaitReceived(published.size());
+        assertThat(ids(received)).containsExactlyElementsOf(ids(published));
+    }
+
+    @Test
+    void deliversNothingForEmptyPublish() throws Exception {
+        transport.publish(List.of());
+
+        Thread.sleep(QUIET_MS);
+        assertThat(received).isEmpty();
+    }
+
+    private NotificationMessage message(Long userId, NotificationType type) {
+        long id = sequence.incrementAndGet();
+        return objectMapper.convertValue(Map.of(
+                "i", id,
+                "u", userId,
+                "t", type.getTitle(),
+                "c", type.getCategory(),
+                "m", type.name() + " " + id,
+                "at", LocalDateTime.now().toString()), NotificationMessage.class);
+    }
+
+    private void awaitReceived(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (received.size() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("알림 %d건 중 %d건만 전달됨", expected, received.size());
+            }
+            Thread.sleep(20);
+        }
+        Thread.sleep(QUIET_MS);
+    }
+
+    private List<NotificationMessage> inLane(NotificationLane lane) {
+        return received.stream()
+                .filter(notification -> NotificationLane.fromTitle(notification.getType()) == lane)
+                .toList();
+    }
+
+    private List<Long> ids(List<NotificationMessage> notifications) {
+        return notifications.stream().map(NotificationMessage::getNotificationId).toList();
+    }
+}
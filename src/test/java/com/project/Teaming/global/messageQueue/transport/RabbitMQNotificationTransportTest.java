@@ -0,0 +1,109 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import com.project.Teaming.global.messageQueue.config.RabbitMQConfig;
+import com.project.Teaming.global.messageQueue.config.RabbitMQConsumerConfig;
+import com.project.Teaming.global.messageQueue.consumer.RabbitMQNotificationConsumer;
+import com.project.Teaming.global.messageQueue.publisher.RabbitMQNotificationPublisher;
+import com.project.Teaming.global.sse.entity.NotificationLane;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영 설정(RabbitMQConfig, RabbitMQConsumerConfig)으로 큐와 배치 리스너를 만들어 검증한다.
+ * 리스너 설정은 스프링 컨텍스트로 읽어 concurrency 등 기본값을 그대로 쓴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RabbitMQNotificationTransportTest extends NotificationTransportContractTest {
+
+    @Container
+    static final RabbitMQContainer RABBIT = new RabbitMQContainer(DockerImageName.parse("rabbitmq:3.13-alpine"));
+
+    private CachingConnectionFactory connectionFactory;
+    private AnnotationConfigApplicationContext consumerContext;
+    private RabbitAdmin rabbitAdmin;
+    private final List<SimpleMessageListenerContainer> containers = new ArrayList<>();
+
+    @Override
+    protected NotificationTransport createTransport(NotificationRouter router, LocalNotificationDispatcher dispatcher) {
+        connectionFactory = new CachingConnectionFactory(RABBIT.getHost(), RABBIT.getAmqpPort());
+        connectionFactory.setUsername(RABBIT.getAdminUsername());
+        connectionFactory.setPassword(RABBIT.getAdminPassword());
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+        rabbitAdmin = new RabbitAdmin(connectionFactory);
+
+        RabbitMQConfig config = new RabbitMQConfig();
+        ReflectionTestUtils.setField(config, "serverId", SERVER_ID);
+        ReflectionTestUtils.setField(config, "queueExpiresMs", 600_000);
+        ReflectionTestUtils.setField(config, "messageTtlMs", 300_000);
+        Queue queue = config.queue();
+        Queue priorityQueue = config.priorityQueue();
+        rabbitAdmin.declareExchange(config.directExchange());
+        rabbitAdmin.declareQueue(queue);
+        rabbitAdmin.declareQueue(priorityQueue);
+        rabbitAdmin.declareBinding(config.directBinding(config.directExchange(), queue));
+        rabbitAdmin.declareBinding(config.priorityBinding(config.directExchange(), priorityQueue));
+
+        Jackson2JsonMessageConverter converter = config.jsonMessageConverter();
+        RabbitMQNotificationConsumer consumer = new RabbitMQNotificationConsumer(dispatcher, converter);
+        consumerContext = consumerContext(converter);
+        startContainer(consumerContext.getBean("rabbitListenerContainerFactory", SimpleRabbitListenerContainerFactory.class),
+                queue.getName(), consumer);
+        startContainer(consumerContext.getBean("priorityListenerContainerFactory", SimpleRabbitListenerContainerFactory.class),
+                priorityQueue.getName(), consumer);
+
+        RabbitMQNotificationPublisher publisher = new RabbitMQNotificationPublisher(config.rabbitTemplate(connectionFactory), rabbitAdmin, router);
+        ReflectionTestUtils.setField(publisher, "serverId", SERVER_ID);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 5_000L);
+        return publisher;
+    }
+
+    @Override
+    protected void destroyTransport() {
+        containers.forEach(SimpleMessageListenerContainer::stop);
+        for (NotificationLane lane : NotificationLane.values()) {
+            rabbitAdmin.deleteQueue(SERVER_ID + lane.getQueueSuffix());
+        }
+        consumerContext.close();  // 등록한 connectionFactory 도 함께 정리된다
+    }
+
+    // 설정 값을 덮어쓰지 않고 RabbitMQConsumerConfig 의 기본값으로 리스너 설정을 만든다
+    private AnnotationConfigApplicationContext consumerContext(Jackson2JsonMessageConverter converter) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(CachingConnectionFactory.class, () -> connectionFactory);
+        context.registerBean(Jackson2JsonMessageConverter.class, () -> converter);
+        context.register(RabbitMQConsumerConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    // @RabbitListener 대신 같은 컨테이너 설정에 컨슈머를 직접 연결한다
+    private void startContainer(SimpleRabbitListenerContainerFactory factory, String queueName, RabbitMQNotificationConsumer consumer) {
+        SimpleMessageListenerContainer container = factory.createListenerContainer();
+        container.setQueueNames(queueName);
+        container.setMessageListener((ChannelAwareBatchMessageListener) (messages, channel) -> {
+            try {
+                consumer.receiveNotifications(messages, channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.Teaming.global.messageQueue.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisStreamNotificationTransportTest extends NotificationTransportContractTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisStreamNotificationTransport transport;
+
+    @Override
+    protected NotificationTransport createTransport(NotificationRouter router, LocalNotificationDispatcher dispatcher) {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        transport = new RedisStreamNotificationTransport(redisTemplate, router, dispatcher, new ObjectMapper());
+        ReflectionTestUtils.setField(transport, "serverId", SERVER_ID);
+        ReflectionTestUtils.setField(transport, "maxLength", 10_000L);
+        ReflectionTestUtils.setField(transport, "expiresMs", 600_000L);
+        ReflectionTestUtils.setField(transport, "batchSize", 50);
+        ReflectionTestUtils.setField(transport, "pollTimeoutMs", 100L);
+        transport.start();
+        return transport;
+    }
+
+    @Override
+    protected void destroyTransport() {
+        transport.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void releaseNodeDeletesStreamsAndGroupsOfThatNode() {
+        String key = "notification:stream:dead-node";
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of("payload", "{}")).withStreamKey(key));
+        redisTemplate.opsForStream().createGroup(key, ReadOffset.latest(), "notification");
+
+        assertThat(transport.releaseNode("dead-node")).isTrue();
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+        assertThat(redisTemplate.hasKey("notification:stream:" + SERVER_ID)).isTrue();
+    }
+
+    // 정리되지 못한 stream 도 소유 서버의 갱신이 끊기면 만료된다
+    @Test
+    void ownStreamsHaveExpiry() {
+        assertThat(redisTemplate.getExpire("notification:stream:" + SERVER_ID)).isPositive();
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.Teaming.global.sse.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class NotificationTypeTest {
+
+    @Test
+    void rendersDigestTemplate() {
+        assertThat(NotificationType.TEAM_JOIN_REQUEST.render("홍길동", "Teaming", 3))
+                .isEqualTo("홍길동 님 외 2명이 \"Teaming\"팀에 참가 신청을 했습니다.");
+    }
+
+    // 이름에 템플릿 변수나 치환 문자($, \)가 들어 있어도 그대로 나온다
+    @Test
+    void doesNotExpandPlaceholdersInsideValues() {
+        assertThat(NotificationType.TEAM_JOIN_REQUEST.render("{team}", "$1 {count}\\", null))
+                .isEqualTo("{team} 님이 \"$1 {count}\\\"팀에 참가 신청을 했습니다.");
+    }
+}